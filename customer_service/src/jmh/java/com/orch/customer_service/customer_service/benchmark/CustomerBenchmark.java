@@ -0,0 +1,48 @@
+package com.orch.customer_service.customer_service.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orch.customer_service.customer_service.entity.Customer;
+
+/**
+ * Customer Jackson (de)serialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CustomerBenchmark {
+
+    // Configured like the Spring Boot ObjectMapper the controllers use
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private Customer customer;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        customer = new Customer(1L, "CUST001", "Jane Doe", "jane@example.com", "+44 20 7946 0000", LocalDateTime.now());
+        json = objectMapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public Customer deserialize() throws IOException {
+        return objectMapper.readValue(json, Customer.class);
+    }
+}
@@ -0,0 +1,234 @@
+package com.orch.customer_service.customer_service.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import com.orch.customer_service.customer_service.CustomerServiceApplication;
+import com.orch.customer_service.customer_service.service.CustomerService;
+
+/**
+ * Platform vs virtual thread comparison for customer-service
+ * Starts the service in-process once per thread mode and drives it with a closed
+ * loop of concurrent clients (80% lookups by customerId, 10% list pages, 10%
+ * updates, which also evict the lookup cache), reporting
+ * throughput, p50/p99/p99.9 latency and peak JVM thread count per concurrency level.
+ * Results are also written to target/loadtest-result.csv.
+ *
+ * Options (--name=value): modes, concurrency, duration, warmup, customers,
+ * request-timeout. Any other option is passed to customer-service, e.g.
+ * --spring.datasource.url=... to run against a real database, where blocking
+ * I/O makes the difference between the modes show.
+ */
+public final class ThreadModeLoadTest {
+
+    private static final Path RESULT_FILE = Path.of("target", "loadtest-result.csv");
+
+    private ThreadModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would restart the application in a new class loader mid-run
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        var options = new HashMap<String, String>();
+        var applicationArgs = new ArrayList<String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            var name = arg.startsWith("--") && separator > 0 ? arg.substring(2, separator) : null;
+            if (name != null && !name.contains(".")) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        var modes = options.getOrDefault("modes", "platform,virtual").split(",");
+        var concurrencyLevels = Arrays.stream(options.getOrDefault("concurrency", "50,200,1000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        var duration = duration(options, "duration", "20s");
+        var warmup = duration(options, "warmup", "10s");
+        var customers = Integer.parseInt(options.getOrDefault("customers", "1000"));
+        var requestTimeout = duration(options, "request-timeout", "10s");
+
+        var results = new ArrayList<StepResult>();
+        for (var mode : modes) {
+            var modeArgs = new ArrayList<String>();
+            modeArgs.add("--server.port=0");
+            modeArgs.add("--spring.threads.virtual.enabled=" + "virtual".equals(mode));
+            modeArgs.add("--logging.level.com.orch.customer_service=WARN");
+            modeArgs.addAll(applicationArgs);
+
+            try (var context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+                    .run(modeArgs.toArray(String[]::new))) {
+                var customerService = context.getBean(CustomerService.class);
+                for (var i = 0; i < customers; i++) {
+                    customerService.createCustomer(customerId(i), "Load test customer " + i, email(i), null);
+                }
+                var baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+                try (var client = HttpClient.newBuilder()
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .build()) {
+                    var maxConcurrency = Arrays.stream(concurrencyLevels).max().orElseThrow();
+                    System.out.printf("%n[%s threads] warming up with %d clients for %s%n", mode, maxConcurrency, warmup);
+                    run(mode, client, baseUrl, customers, maxConcurrency, warmup, requestTimeout);
+
+                    for (var concurrency : concurrencyLevels) {
+                        System.out.printf("[%s threads] %d concurrent clients for %s%n", mode, concurrency, duration);
+                        results.add(run(mode, client, baseUrl, customers, concurrency, duration, requestTimeout));
+                    }
+                }
+            }
+        }
+
+        report(results);
+    }
+
+    /**
+     * Closed loop: each client sends its next request as soon as the previous one completes
+     */
+    private static StepResult run(String mode, HttpClient client, String baseUrl, int customers, int concurrency,
+                                  Duration duration, Duration requestTimeout) throws InterruptedException {
+        var latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        var succeeded = new LongAdder();
+        var failed = new LongAdder();
+        var threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var c = 0; c < concurrency; c++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        var request = nextRequest(baseUrl, customers, requestTimeout);
+                        var sent = System.nanoTime();
+                        try {
+                            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            (response.statusCode() < 300 ? succeeded : failed).increment();
+                        } catch (IOException e) {
+                            failed.increment();
+                        }
+                        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent),
+                                latencies.getHighestTrackableValue()));
+                    }
+                    return null;
+                });
+            }
+        }
+        var elapsedSeconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        return new StepResult(
+                mode,
+                concurrency,
+                succeeded.sum(),
+                failed.sum(),
+                succeeded.sum() / elapsedSeconds,
+                latencies.getValueAtPercentile(50),
+                latencies.getValueAtPercentile(99),
+                latencies.getValueAtPercentile(99.9),
+                latencies.getMaxValue(),
+                threads.getPeakThreadCount());
+    }
+
+    /**
+     * 80% lookups by customerId, 10% pages of 20 from a random cursor (a keyset query),
+     * 10% updates (a short write transaction)
+     */
+    private static HttpRequest nextRequest(String baseUrl, int customers, Duration requestTimeout) {
+        var random = ThreadLocalRandom.current();
+        var index = random.nextInt(customers);
+        return switch (random.nextInt(10)) {
+            case 0 -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/customers/" + customerId(index)))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Updated customer %d\",\"email\":\"%s\"}"
+                            .formatted(index, email(index))))
+                    .build();
+            case 1 -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/customers?after=" + index + "&limit=20"))
+                    .timeout(requestTimeout)
+                    .GET()
+                    .build();
+            default -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/customers/" + customerId(index)))
+                    .timeout(requestTimeout)
+                    .GET()
+                    .build();
+        };
+    }
+
+    private static void report(List<StepResult> results) throws IOException {
+        var lines = new ArrayList<String>();
+        lines.add("mode,concurrency,ok,failed,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms,peak_threads");
+
+        System.out.printf("%n%9s %11s %9s %7s %12s %9s %9s %9s %9s %8s%n",
+                "mode", "concurrency", "ok", "failed", "requests/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "threads");
+        for (var result : results) {
+            System.out.printf("%9s %11d %9d %7d %12.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                    result.mode(), result.concurrency(), result.succeeded(), result.failed(), result.throughput(),
+                    millis(result.p50()), millis(result.p99()), millis(result.p999()), millis(result.max()),
+                    result.peakThreads());
+            lines.add("%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d".formatted(
+                    result.mode(), result.concurrency(), result.succeeded(), result.failed(), result.throughput(),
+                    millis(result.p50()), millis(result.p99()), millis(result.p999()), millis(result.max()),
+                    result.peakThreads()));
+        }
+
+        Files.createDirectories(RESULT_FILE.getParent());
+        Files.write(RESULT_FILE, lines);
+        System.out.println("Results written to " + RESULT_FILE);
+    }
+
+    private static String customerId(int index) {
+        return "LOAD%05d".formatted(index);
+    }
+
+    private static String email(int index) {
+        return "load%05d@example.com".formatted(index);
+    }
+
+    private static Duration duration(Map<String, String> options, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(options.getOrDefault(name, defaultValue));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Outcome of one concurrency level in one thread mode; latencies are in microseconds
+     */
+    private record StepResult(
+            String mode,
+            int concurrency,
+            long succeeded,
+            long failed,
+            double throughput,
+            long p50,
+            long p99,
+            long p999,
+            long max,
+            int peakThreads
+    ) {}
+}
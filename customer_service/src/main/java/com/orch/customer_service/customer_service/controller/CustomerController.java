@@ -1,7 +1,14 @@
 package com.orch.customer_service.customer_service.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,9 +17,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.orch.customer_service.customer_service.entity.Customer;
+import com.orch.customer_service.customer_service.service.CustomerImportService;
+import com.orch.customer_service.customer_service.service.CustomerImportService.ImportResult;
 import com.orch.customer_service.customer_service.service.CustomerService;
 
 /**
@@ -23,10 +36,30 @@ import com.orch.customer_service.customer_service.service.CustomerService;
 @RequestMapping("/api/customers")
 public class CustomerController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
     private final CustomerService customerService;
+    private final CustomerImportService customerImportService;
+    private final ObjectMapper objectMapper;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int fetchSize;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(
+            CustomerService customerService,
+            CustomerImportService customerImportService,
+            ObjectMapper objectMapper,
+            @Value("${api.pagination.default-limit:100}") int defaultLimit,
+            @Value("${api.pagination.max-limit:1000}") int maxLimit,
+            @Value("${api.stream.fetch-size:500}") int fetchSize) {
         this.customerService = customerService;
+        this.customerImportService = customerImportService;
+        this.objectMapper = objectMapper;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -43,6 +76,26 @@ public class CustomerController {
         return ResponseEntity.ok(customer);
     }
 
+    /**
+     * Bulk import customers from newline-delimited JSON, one customer per line.
+     * The body is read as it arrives and inserted in batches; rows that fail are
+     * reported by line number without stopping the import.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<ImportResult> importCustomersNdjson(InputStream body) {
+        return ResponseEntity.ok(customerImportService.importCustomers(
+                CustomerImportReader.ndjson(utf8(body), objectMapper)));
+    }
+
+    /**
+     * Bulk import customers from CSV with a header line (customerId,name,email,phone)
+     */
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<ImportResult> importCustomersCsv(InputStream body) {
+        return ResponseEntity.ok(customerImportService.importCustomers(
+                CustomerImportReader.csv(utf8(body))));
+    }
+
     /**
      * Get customer by ID
      */
@@ -64,11 +117,44 @@ public class CustomerController {
     }
 
     /**
-     * Get all customers
+     * Get customers one page at a time, ordered by id, once 'after' or 'limit' is given.
+     * Pass the X-Next-Cursor header of a response as 'after' to get the next page;
+     * the header is absent on the last page. Without either, every customer is returned
+     * in one response, as before paging was added; /stream serves large tables better.
      */
     @GetMapping
-    public ResponseEntity<List<Customer>> getAllCustomers() {
-        return ResponseEntity.ok(customerService.getAllCustomers());
+    public ResponseEntity<List<Customer>> getAllCustomers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(customerService.getAllCustomers());
+        }
+        var pageSize = Math.clamp(limit == null ? defaultLimit : limit, 1, maxLimit);
+        // Fetch one extra row to learn whether another page exists
+        var customers = customerService.getCustomersAfter(after == null ? 0 : after, pageSize + 1);
+        if (customers.size() <= pageSize) {
+            return ResponseEntity.ok(customers);
+        }
+        var page = customers.subList(0, pageSize);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, String.valueOf(page.get(pageSize - 1).getId()))
+                .body(page);
+    }
+
+    /**
+     * Stream all customers as newline-delimited JSON, one customer per line
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllCustomers() {
+        StreamingResponseBody body = out -> customerService.forEachCustomer(fetchSize, customer -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(customer));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok(body);
     }
 
     /**
@@ -97,6 +183,10 @@ public class CustomerController {
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
 
+    private static BufferedReader utf8(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
     /**
      * Request DTOs using records
      */
@@ -0,0 +1,113 @@
+package com.orch.customer_service.customer_service.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import com.orch.customer_service.customer_service.controller.CustomerController.CreateCustomerRequest;
+import com.orch.customer_service.customer_service.service.CustomerImportService.ImportRow;
+
+/**
+ * Reads an import body one line at a time, so only the current row is in memory
+ * NDJSON: one customer object per line. CSV: a header line naming the columns
+ * (customerId, name, email, phone; any order), then one customer per line.
+ * Blank lines are skipped; a line that cannot be parsed becomes an invalid row.
+ */
+final class CustomerImportReader implements Iterator<ImportRow> {
+
+    // Without a schema each CSV line reads as an array of its fields
+    private static final ObjectReader CSV_LINE_READER = new CsvMapper().readerFor(String[].class);
+
+    private final BufferedReader reader;
+    private final LineParser parser;
+    private long lineNumber;
+    private ImportRow next;
+
+    private CustomerImportReader(BufferedReader reader, LineParser parser) {
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    static CustomerImportReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        var requestReader = objectMapper.readerFor(CreateCustomerRequest.class);
+        return new CustomerImportReader(reader, (lineNumber, line) -> {
+            CreateCustomerRequest request = requestReader.readValue(line);
+            return new ImportRow(lineNumber, request.customerId(), request.name(), request.email(),
+                    request.phone(), null);
+        });
+    }
+
+    static CustomerImportReader csv(BufferedReader reader) {
+        var columns = new HashMap<String, Integer>();
+        return new CustomerImportReader(reader, (lineNumber, line) -> {
+            String[] values = CSV_LINE_READER.readValue(line);
+            if (columns.isEmpty()) {
+                for (var i = 0; i < values.length; i++) {
+                    columns.put(values[i].trim().toLowerCase(Locale.ROOT), i);
+                }
+                return null;
+            }
+            return new ImportRow(lineNumber, column(values, columns, "customerid"), column(values, columns, "name"),
+                    column(values, columns, "email"), column(values, columns, "phone"), null);
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String line;
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                next = parser.parse(lineNumber, line);
+            } catch (IOException | RuntimeException e) {
+                var message = Objects.toString(e.getMessage(), e.getClass().getSimpleName());
+                next = ImportRow.invalid(lineNumber, "Unreadable row: " + message.lines().findFirst().orElse(""));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var row = next;
+        next = null;
+        return row;
+    }
+
+    private static String column(String[] values, Map<String, Integer> columns, String name) {
+        var index = columns.get(name);
+        return index == null || index >= values.length ? null : values[index].trim();
+    }
+
+    /**
+     * Parses one non-blank line; returns null for lines that are not rows (the CSV header)
+     */
+    @FunctionalInterface
+    private interface LineParser {
+        ImportRow parse(long lineNumber, String line) throws IOException;
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,6 +16,9 @@ import lombok.NoArgsConstructor;
 
 /**
  * Customer Entity
+ * Ids come from a pooled sequence rather than an identity column, so Hibernate
+ * knows them before the insert and can send inserts in JDBC batches.
+ * Existing databases are moved over by db/migration/customers_id_sequence.sql.
  */
 @Entity
 @Table(name = "customers")
@@ -24,7 +28,8 @@ import lombok.NoArgsConstructor;
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_seq")
+    @SequenceGenerator(name = "customers_seq", sequenceName = "customers_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
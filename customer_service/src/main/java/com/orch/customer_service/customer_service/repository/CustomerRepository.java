@@ -1,8 +1,12 @@
 package com.orch.customer_service.customer_service.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.orch.customer_service.customer_service.entity.Customer;
@@ -16,4 +20,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByCustomerId(String customerId);
     
     Optional<Customer> findByEmail(String email);
+
+    /**
+     * Keyset page: the next customers after the given id, in id order
+     */
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Which of the given customerIds are already taken - one query per import batch
+     */
+    @Query("select c.customerId from Customer c where c.customerId in :customerIds")
+    List<String> findExistingCustomerIds(Collection<String> customerIds);
 }
@@ -0,0 +1,169 @@
+package com.orch.customer_service.customer_service.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orch.customer_service.customer_service.entity.Customer;
+import com.orch.customer_service.customer_service.repository.CustomerRepository;
+
+/**
+ * Customer Import Service
+ * Inserts customers from a stream of rows in fixed-size batches, each batch in
+ * its own transaction, so memory stays flat however long the input is.
+ * A bad row is reported and skipped; it never aborts the rest of the import.
+ */
+@Service
+public class CustomerImportService {
+
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public CustomerImportService(
+            CustomerRepository customerRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${customers.import.batch-size:500}") int batchSize,
+            @Value("${customers.import.max-reported-errors:100}") int maxReportedErrors) {
+        this.customerRepository = customerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Import rows as they are read. Only the first maxReportedErrors errors are
+     * listed; all of them are counted.
+     */
+    public ImportResult importCustomers(Iterator<ImportRow> rows) {
+        var progress = new Progress();
+        var batch = new ArrayList<ImportRow>(batchSize);
+        while (rows.hasNext()) {
+            var row = rows.next();
+            var problem = validate(row);
+            if (problem != null) {
+                progress.fail(row, problem);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                insertBatch(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, progress);
+        }
+        // Duplicates are found when their batch is flushed, after later rows were validated
+        progress.errors.sort(Comparator.comparingLong(RowError::line));
+        return new ImportResult(progress.imported, progress.failed, List.copyOf(progress.errors));
+    }
+
+    /**
+     * Insert one batch; rows whose customerId is already taken are rejected up front.
+     * If the batch still fails (e.g. a concurrent insert), its rows are retried one by one
+     * so only the offending rows are lost.
+     */
+    private void insertBatch(List<ImportRow> batch, Progress progress) {
+        var existing = new HashSet<>(customerRepository.findExistingCustomerIds(
+                batch.stream().map(ImportRow::customerId).toList()));
+        var customers = new ArrayList<Customer>(batch.size());
+        var accepted = new ArrayList<ImportRow>(batch.size());
+        for (var row : batch) {
+            // add() also catches a customerId repeated within the batch
+            if (!existing.add(row.customerId())) {
+                progress.fail(row, "Duplicate customerId: " + row.customerId());
+                continue;
+            }
+            customers.add(toCustomer(row));
+            accepted.add(row);
+        }
+        if (customers.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> customerRepository.saveAll(customers));
+            progress.imported += customers.size();
+        } catch (RuntimeException batchFailure) {
+            for (var row : accepted) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> customerRepository.save(toCustomer(row)));
+                    progress.imported++;
+                } catch (RuntimeException e) {
+                    progress.fail(row, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+    }
+
+    private static String validate(ImportRow row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        if (isBlank(row.customerId()) || isBlank(row.name()) || isBlank(row.email())) {
+            return "customerId, name and email are required";
+        }
+        return null;
+    }
+
+    private static Customer toCustomer(ImportRow row) {
+        return new Customer(null, row.customerId(), row.name(), row.email(), row.phone(), null);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private final class Progress {
+        private long imported;
+        private long failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void fail(ImportRow row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(row.line(), row.customerId(), message));
+            }
+        }
+    }
+
+    /**
+     * One input row; error is set when the row could not be parsed
+     */
+    public record ImportRow(
+            long line,
+            String customerId,
+            String name,
+            String email,
+            String phone,
+            String error
+    ) {
+        public static ImportRow invalid(long line, String error) {
+            return new ImportRow(line, null, null, null, null, error);
+        }
+    }
+
+    /**
+     * Import summary record
+     */
+    public record ImportResult(
+            long imported,
+            long failed,
+            List<RowError> errors
+    ) {}
+
+    public record RowError(
+            long line,
+            String customerId,
+            String message
+    ) {}
+}
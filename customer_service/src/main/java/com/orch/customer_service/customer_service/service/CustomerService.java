@@ -1,23 +1,45 @@
 package com.orch.customer_service.customer_service.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.orch.customer_service.customer_service.entity.Customer;
 import com.orch.customer_service.customer_service.repository.CustomerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Customer Service
  * Demonstrates service layer pattern with repository
+ * Lookups by customerId and by email read through bounded caches. Updates and
+ * deletes evict every key the customer was or is now cached under, after the
+ * change is saved; a lookup still loading the old row is evicted with it.
+ * Cached customers are shared, so callers must not modify them.
  */
 @Service
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final Cache<String, Customer> customersById;
+    private final Cache<String, Customer> customersByEmail;
 
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(
+            CustomerRepository customerRepository,
+            @Value("${customers.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${customers.cache.ttl:5m}") Duration cacheTtl,
+            MeterRegistry meterRegistry) {
         this.customerRepository = customerRepository;
+        this.customersById = cache(cacheMaxSize, cacheTtl);
+        this.customersByEmail = cache(cacheMaxSize, cacheTtl);
+        CaffeineCacheMetrics.monitor(meterRegistry, customersById, "customers.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, customersByEmail, "customers.by-email");
     }
 
     public Customer createCustomer(String customerId, String name, String email, String phone) {
@@ -26,33 +48,89 @@ public class CustomerService {
     }
 
     public Optional<Customer> findByCustomerId(String customerId) {
-        return customerRepository.findByCustomerId(customerId);
+        // Misses for unknown customers are not cached, so a later create is seen at once
+        return Optional.ofNullable(customersById.get(customerId,
+                id -> customerRepository.findByCustomerId(id).orElse(null)));
     }
 
     public Optional<Customer> findByEmail(String email) {
-        return customerRepository.findByEmail(email);
+        return Optional.ofNullable(customersByEmail.get(email,
+                key -> customerRepository.findByEmail(key).orElse(null)));
     }
 
     public List<Customer> getAllCustomers() {
         return customerRepository.findAll();
     }
 
+    /**
+     * Keyset pagination - customers with an id greater than the cursor, in id order
+     */
+    public List<Customer> getCustomersAfter(long afterId, int limit) {
+        return customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Visit every customer in id order, reading chunkSize rows per query
+     * so memory stays flat regardless of table size
+     */
+    public void forEachCustomer(int chunkSize, Consumer<Customer> action) {
+        var afterId = 0L;
+        List<Customer> chunk;
+        do {
+            chunk = getCustomersAfter(afterId, chunkSize);
+            for (var customer : chunk) {
+                action.accept(customer);
+                afterId = customer.getId();
+            }
+        } while (chunk.size() == chunkSize);
+    }
+
+    /**
+     * Update a customer read from the database, never a cached instance;
+     * evicts the old and the new email as well as the customerId
+     */
     public Optional<Customer> updateCustomer(String customerId, String name, String email, String phone) {
-        return findByCustomerId(customerId)
+        return customerRepository.findByCustomerId(customerId)
                 .map(customer -> {
+                    var previousEmail = customer.getEmail();
                     customer.setName(name);
                     customer.setEmail(email);
                     customer.setPhone(phone);
-                    return customerRepository.save(customer);
+                    try {
+                        return customerRepository.save(customer);
+                    } finally {
+                        evict(customerId, previousEmail, email);
+                    }
                 });
     }
 
     public boolean deleteCustomer(String customerId) {
-        return findByCustomerId(customerId)
+        return customerRepository.findByCustomerId(customerId)
                 .map(customer -> {
-                    customerRepository.delete(customer);
+                    try {
+                        customerRepository.delete(customer);
+                    } finally {
+                        evict(customerId, customer.getEmail());
+                    }
                     return true;
                 })
                 .orElse(false);
     }
+
+    private void evict(String customerId, String... emails) {
+        customersById.invalidate(customerId);
+        for (var email : emails) {
+            if (email != null) {
+                customersByEmail.invalidate(email);
+            }
+        }
+    }
+
+    private static Cache<String, Customer> cache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
 }
@@ -0,0 +1,16 @@
+-- Move customers.id from an identity column to the pooled customers_seq sequence (PostgreSQL).
+-- Run once against an existing prod database, with customer-service stopped, before starting
+-- the version that allocates ids from customers_seq. Running it again changes nothing.
+--
+-- Hibernate's pooled optimizer takes each nextval as the top of a block of 50 ids, so the
+-- sequence starts 50 above the highest existing id: the first block is max(id)+1 .. max(id)+50.
+-- On an empty table the sequence starts at 50, and Hibernate's first block is 1 .. 50.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_class WHERE relkind = 'S' AND relname = 'customers_seq') THEN
+        ALTER TABLE customers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        ALTER TABLE customers ALTER COLUMN id DROP DEFAULT;
+        CREATE SEQUENCE customers_seq INCREMENT BY 50;
+        PERFORM setval('customers_seq', COALESCE((SELECT MAX(id) FROM customers), 0) + 50, false);
+    END IF;
+END $$;
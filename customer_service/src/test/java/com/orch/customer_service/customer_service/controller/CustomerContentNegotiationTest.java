@@ -0,0 +1,65 @@
+package com.orch.customer_service.customer_service.controller;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Tests for serving Smile alongside JSON
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Customer Content Negotiation Tests")
+class CustomerContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should accept a Smile body and answer in Smile when asked, JSON otherwise")
+    void testSmileRoundTrip() throws Exception {
+        // Arrange
+        var body = smileMapper.writeValueAsBytes(Map.of(
+                "customerId", "SMILE001",
+                "name", "Sam",
+                "email", "sam@example.com"));
+
+        // Act
+        mockMvc.perform(post("/api/customers").contentType(SMILE).accept(SMILE).content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE));
+        var response = mockMvc.perform(get("/api/customers/SMILE001").accept(SMILE, MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        var customer = smileMapper.readValue(response, new TypeReference<Map<String, Object>>() {});
+        assertEquals("Sam", customer.get("name"));
+        assertEquals("sam@example.com", customer.get("email"));
+        mockMvc.perform(get("/api/customers/SMILE001"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Sam"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.orch.customer_service.customer_service.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.orch.customer_service.customer_service.service.CustomerService;
+
+/**
+ * Tests for the streaming bulk customer import
+ */
+@SpringBootTest(properties = "customers.import.batch-size=2")
+@AutoConfigureMockMvc
+@DisplayName("Customer Import Tests")
+class CustomerImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Test
+    @DisplayName("Should import NDJSON rows and report bad rows without aborting")
+    void testNdjsonImport() throws Exception {
+        // Arrange
+        var body = """
+                {"customerId":"IMP001","name":"Ann","email":"ann@example.com"}
+                {"customerId":"IMP002","name":"Bob","email":"bob@example.com","phone":"555-0101"}
+                not json
+
+                {"customerId":"IMP001","name":"Ann again","email":"ann2@example.com"}
+                {"customerId":"IMP003","name":"","email":"carl@example.com"}
+                {"customerId":"IMP004","name":"Dee","email":"dee@example.com"}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/api/customers/import").contentType(CustomerController.NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].customerId").value("IMP001"))
+                .andExpect(jsonPath("$.errors[2].line").value(6));
+        assertEquals("Ann", customerService.findByCustomerId("IMP001").orElseThrow().getName());
+        assertEquals("555-0101", customerService.findByCustomerId("IMP002").orElseThrow().getPhone());
+    }
+
+    @Test
+    @DisplayName("Should import CSV with columns in any order and quoted fields")
+    void testCsvImport() throws Exception {
+        // Arrange
+        var body = """
+                email,customerId,name,phone
+                erin@example.com,CSV001,"Smith, Erin",
+                frank@example.com,CSV002,Frank,555-0102
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/api/customers/import").contentType(CustomerController.CSV).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+        assertEquals("Smith, Erin", customerService.findByCustomerId("CSV001").orElseThrow().getName());
+        assertEquals("frank@example.com", customerService.findByCustomerId("CSV002").orElseThrow().getEmail());
+    }
+}
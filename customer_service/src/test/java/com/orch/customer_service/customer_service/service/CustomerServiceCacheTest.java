@@ -0,0 +1,78 @@
+package com.orch.customer_service.customer_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tests for the CustomerService read-through cache and its invalidation
+ */
+@SpringBootTest
+@DisplayName("Customer Service Cache Tests")
+class CustomerServiceCacheTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void testRepeatedLookupsHitCache() {
+        // Arrange
+        customerService.createCustomer("CACHE001", "Jane", "jane@example.com", null);
+        var hitsBefore = hits("customers.by-id");
+
+        // Act
+        customerService.findByCustomerId("CACHE001");
+        customerService.findByCustomerId("CACHE001");
+        customerService.findByCustomerId("CACHE001");
+
+        // Assert
+        assertEquals(hitsBefore + 2, hits("customers.by-id"));
+    }
+
+    @Test
+    @DisplayName("Should evict old and new email when an update changes the email")
+    void testUpdateEvictsBothEmails() {
+        // Arrange
+        customerService.createCustomer("CACHE002", "John", "john@old.example.com", null);
+        customerService.findByCustomerId("CACHE002");
+        customerService.findByEmail("john@old.example.com");
+        customerService.findByEmail("john@new.example.com");
+
+        // Act
+        customerService.updateCustomer("CACHE002", "John Smith", "john@new.example.com", "555-0100");
+
+        // Assert
+        assertEquals("John Smith", customerService.findByCustomerId("CACHE002").orElseThrow().getName());
+        assertTrue(customerService.findByEmail("john@old.example.com").isEmpty());
+        assertEquals("CACHE002", customerService.findByEmail("john@new.example.com").orElseThrow().getCustomerId());
+    }
+
+    @Test
+    @DisplayName("Should evict a deleted customer")
+    void testDeleteEvicts() {
+        // Arrange
+        customerService.createCustomer("CACHE003", "Ann", "ann@example.com", null);
+        customerService.findByCustomerId("CACHE003");
+        customerService.findByEmail("ann@example.com");
+
+        // Act
+        customerService.deleteCustomer("CACHE003");
+
+        // Assert
+        assertTrue(customerService.findByCustomerId("CACHE003").isEmpty());
+        assertTrue(customerService.findByEmail("ann@example.com").isEmpty());
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit").functionCounter().count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.orch.inventory_service.inventory_service.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orch.inventory_service.inventory_service.entity.InventoryItem;
+
+/**
+ * InventoryItem availability check and Jackson (de)serialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InventoryItemBenchmark {
+
+    // Configured like the Spring Boot ObjectMapper the controllers use
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private InventoryItem item;
+    private Integer requestedQuantity;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        item = new InventoryItem(1L, "PROD001", "Widget", 500, 120);
+        requestedQuantity = 10;
+        json = objectMapper.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public boolean isAvailable() {
+        return item.isAvailable(requestedQuantity);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public InventoryItem deserialize() throws IOException {
+        return objectMapper.readValue(json, InventoryItem.class);
+    }
+}
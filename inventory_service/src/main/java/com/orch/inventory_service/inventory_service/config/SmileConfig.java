@@ -0,0 +1,23 @@
+package com.orch.inventory_service.inventory_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Smile (binary JSON) alongside JSON
+ * A client that sends Accept: application/x-jackson-smile gets response bodies in Smile,
+ * and request bodies may be sent as Smile; JSON stays the default. The mapper comes from
+ * Boot's Jackson builder, so both encodings share the spring.jackson.* settings.
+ */
+@Configuration
+public class SmileConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
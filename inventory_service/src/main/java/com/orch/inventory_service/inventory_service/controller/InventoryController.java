@@ -1,7 +1,14 @@
 package com.orch.inventory_service.inventory_service.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -11,9 +18,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.orch.inventory_service.inventory_service.entity.InventoryItem;
 import com.orch.inventory_service.inventory_service.service.InventoryService;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdate;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdateResult;
+import com.orch.inventory_service.inventory_service.service.InventoryService.StockChange;
 
 /**
  * Inventory REST Controller
@@ -23,10 +36,26 @@ import com.orch.inventory_service.inventory_service.service.InventoryService;
 @RequestMapping("/api/inventory")
 public class InventoryController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NDJSON = "application/x-ndjson";
+
     private final InventoryService inventoryService;
+    private final ObjectMapper objectMapper;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int fetchSize;
 
-    public InventoryController(InventoryService inventoryService) {
+    public InventoryController(
+            InventoryService inventoryService,
+            ObjectMapper objectMapper,
+            @Value("${api.pagination.default-limit:100}") int defaultLimit,
+            @Value("${api.pagination.max-limit:1000}") int maxLimit,
+            @Value("${api.stream.fetch-size:500}") int fetchSize) {
         this.inventoryService = inventoryService;
+        this.objectMapper = objectMapper;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -53,11 +82,44 @@ public class InventoryController {
     }
 
     /**
-     * Get all inventory items
+     * Get inventory items one page at a time, ordered by id, once 'after' or 'limit' is given.
+     * Pass the X-Next-Cursor header of a response as 'after' to get the next page;
+     * the header is absent on the last page. Without either, every item is returned
+     * in one response, as before paging was added; /stream serves large tables better.
      */
     @GetMapping
-    public ResponseEntity<List<InventoryItem>> getAllItems() {
-        return ResponseEntity.ok(inventoryService.getAllItems());
+    public ResponseEntity<List<InventoryItem>> getAllItems(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(inventoryService.getAllItems());
+        }
+        var pageSize = Math.clamp(limit == null ? defaultLimit : limit, 1, maxLimit);
+        // Fetch one extra row to learn whether another page exists
+        var items = inventoryService.getItemsAfter(after == null ? 0 : after, pageSize + 1);
+        if (items.size() <= pageSize) {
+            return ResponseEntity.ok(items);
+        }
+        var page = items.subList(0, pageSize);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, String.valueOf(page.get(pageSize - 1).getId()))
+                .body(page);
+    }
+
+    /**
+     * Stream all inventory items as newline-delimited JSON, one item per line
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllItems() {
+        StreamingResponseBody body = out -> inventoryService.forEachItem(fetchSize, item -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok(body);
     }
 
     /**
@@ -72,15 +134,98 @@ public class InventoryController {
     }
 
     /**
-     * Update inventory quantity
+     * Check availability of many products in one request.
+     * Results are returned in request order; unknown products are unavailable.
+     */
+    @PostMapping("/availability")
+    public ResponseEntity<List<AvailabilityResponse>> checkAvailabilityBulk(
+            @RequestBody List<AvailabilityRequest> requests) {
+        Set<String> productIds = requests.stream()
+                .map(AvailabilityRequest::productId)
+                .collect(Collectors.toSet());
+        var available = inventoryService.getAvailableQuantities(productIds);
+        var responses = requests.stream()
+                .map(request -> new AvailabilityResponse(
+                        request.productId(),
+                        request.quantity(),
+                        available.getOrDefault(request.productId(), 0) >= request.quantity()))
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Update inventory quantity; 409 if it is below the reserved quantity
      */
     @PatchMapping("/{productId}/quantity")
     public ResponseEntity<InventoryItem> updateQuantity(
             @PathVariable String productId,
             @RequestBody UpdateQuantityRequest request) {
-        return inventoryService.updateQuantity(productId, request.quantity())
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        if (request.quantity() == null || request.quantity() < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return stockChangeResponse(inventoryService.updateQuantity(productId, request.quantity()));
+    }
+
+    /**
+     * Set stock levels for many products in one call, e.g. a warehouse sync.
+     * Applied in chunked transactions as batched updates; returns one result per entry,
+     * in request order: UPDATED, NOT_FOUND, INVALID (missing productId or negative quantity),
+     * REJECTED (below the reserved quantity) or FAILED.
+     */
+    @PatchMapping("/quantities")
+    public ResponseEntity<List<QuantityUpdateResult>> updateQuantities(
+            @RequestBody List<QuantityUpdateRequest> requests) {
+        var updates = requests.stream()
+                .map(request -> new QuantityUpdate(request.productId(), request.quantity()))
+                .toList();
+        return ResponseEntity.ok(inventoryService.updateQuantities(updates));
+    }
+
+    /**
+     * Reserve stock atomically; 409 if not enough is available
+     */
+    @PostMapping("/{productId}/reserve")
+    public ResponseEntity<InventoryItem> reserve(
+            @PathVariable String productId,
+            @RequestBody UpdateQuantityRequest request) {
+        return applyStockChange(request, quantity -> inventoryService.reserve(productId, quantity));
+    }
+
+    /**
+     * Release reserved stock; 409 if less than the amount is reserved
+     */
+    @PostMapping("/{productId}/release")
+    public ResponseEntity<InventoryItem> release(
+            @PathVariable String productId,
+            @RequestBody UpdateQuantityRequest request) {
+        return applyStockChange(request, quantity -> inventoryService.release(productId, quantity));
+    }
+
+    /**
+     * Ship reserved stock, decrementing quantity and reservation together
+     */
+    @PostMapping("/{productId}/commit")
+    public ResponseEntity<InventoryItem> commit(
+            @PathVariable String productId,
+            @RequestBody UpdateQuantityRequest request) {
+        return applyStockChange(request, quantity -> inventoryService.commit(productId, quantity));
+    }
+
+    private static ResponseEntity<InventoryItem> applyStockChange(
+            UpdateQuantityRequest request,
+            IntFunction<StockChange> stockChange) {
+        if (request.quantity() == null || request.quantity() <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return stockChangeResponse(stockChange.apply(request.quantity()));
+    }
+
+    private static ResponseEntity<InventoryItem> stockChangeResponse(StockChange change) {
+        return switch (change.outcome()) {
+            case APPLIED -> ResponseEntity.ok(change.item());
+            case INSUFFICIENT_STOCK -> ResponseEntity.status(HttpStatus.CONFLICT).body(change.item());
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+        };
     }
 
     /**
@@ -96,6 +241,22 @@ public class InventoryController {
             Integer quantity
     ) {}
 
+    public record QuantityUpdateRequest(
+            String productId,
+            Integer quantity
+    ) {}
+
+    public record AvailabilityRequest(
+            String productId,
+            Integer quantity
+    ) {
+        public AvailabilityRequest {
+            if (quantity == null) {
+                quantity = 1;
+            }
+        }
+    }
+
     public record AvailabilityResponse(
             String productId,
             Integer requestedQuantity,
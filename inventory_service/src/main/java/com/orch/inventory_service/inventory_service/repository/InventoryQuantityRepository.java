@@ -0,0 +1,18 @@
+package com.orch.inventory_service.inventory_service.repository;
+
+import java.util.SequencedMap;
+
+/**
+ * Bulk stock-level updates that bypass the entity lifecycle
+ */
+public interface InventoryQuantityRepository {
+
+    /**
+     * Set the quantity of each product with one JDBC batch, without reading the rows first.
+     * Only the quantity column is written, so concurrent reservations are not overwritten,
+     * and a quantity below the product's reservation is not applied.
+     * Returns the rows updated per entry, in the map's order (0 for an unknown product or
+     * a refused quantity).
+     */
+    int[] updateQuantities(SequencedMap<String, Integer> quantities);
+}
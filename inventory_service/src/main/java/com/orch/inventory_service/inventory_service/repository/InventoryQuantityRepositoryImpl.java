@@ -0,0 +1,27 @@
+package com.orch.inventory_service.inventory_service.repository;
+
+import java.util.ArrayList;
+import java.util.SequencedMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC implementation of InventoryQuantityRepository, picked up by Spring Data as a repository fragment
+ */
+class InventoryQuantityRepositoryImpl implements InventoryQuantityRepository {
+
+    private static final String UPDATE_QUANTITY = "update inventory set quantity = ? where product_id = ? and ? >= reserved_quantity";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    InventoryQuantityRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] updateQuantities(SequencedMap<String, Integer> quantities) {
+        var batchArgs = new ArrayList<Object[]>(quantities.size());
+        quantities.forEach((productId, quantity) -> batchArgs.add(new Object[] {quantity, productId, quantity}));
+        return jdbcTemplate.batchUpdate(UPDATE_QUANTITY, batchArgs);
+    }
+}
@@ -1,8 +1,14 @@
 package com.orch.inventory_service.inventory_service.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.orch.inventory_service.inventory_service.entity.InventoryItem;
@@ -11,7 +17,66 @@ import com.orch.inventory_service.inventory_service.entity.InventoryItem;
  * Inventory Repository
  */
 @Repository
-public interface InventoryRepository extends JpaRepository<InventoryItem, Long> {
+public interface InventoryRepository extends JpaRepository<InventoryItem, Long>, InventoryQuantityRepository {
     
     Optional<InventoryItem> findByProductId(String productId);
+
+    List<InventoryItem> findByProductIdIn(Collection<String> productIds);
+
+    /**
+     * Stock levels of the given products, without loading the items
+     */
+    List<StockLevel> findStockLevelByProductIdIn(Collection<String> productIds);
+
+    /**
+     * Reserve stock with a single conditional update; returns 0 if not enough is available
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update InventoryItem i
+            set i.reservedQuantity = i.reservedQuantity + :quantity
+            where i.productId = :productId and i.quantity - i.reservedQuantity >= :quantity""")
+    int reserve(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    /**
+     * Set the stock level without touching the reservation; returns 0 if it would fall
+     * below what is reserved
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update InventoryItem i
+            set i.quantity = :quantity
+            where i.productId = :productId and :quantity >= i.reservedQuantity""")
+    int setQuantity(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    /**
+     * Release reserved stock; returns 0 if less than the given amount is reserved
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update InventoryItem i
+            set i.reservedQuantity = i.reservedQuantity - :quantity
+            where i.productId = :productId and i.reservedQuantity >= :quantity""")
+    int release(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    /**
+     * Turn reserved stock into a sale, decrementing both quantity and reservation;
+     * returns 0 if less than the given amount is reserved
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update InventoryItem i
+            set i.quantity = i.quantity - :quantity, i.reservedQuantity = i.reservedQuantity - :quantity
+            where i.productId = :productId and i.reservedQuantity >= :quantity""")
+    int commit(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    /**
+     * Keyset page: the next items after the given id, in id order
+     */
+    List<InventoryItem> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Product id and quantity of one item
+     */
+    record StockLevel(String productId, Integer quantity) {}
 }
@@ -2,10 +2,23 @@ package com.orch.inventory_service.inventory_service.service;
 
 import com.orch.inventory_service.inventory_service.entity.InventoryItem;
 import com.orch.inventory_service.inventory_service.repository.InventoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SequencedMap;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 /**
  * Inventory Service
@@ -15,9 +28,16 @@ import java.util.Optional;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int bulkUpdateChunkSize;
 
-    public InventoryService(InventoryRepository inventoryRepository) {
+    public InventoryService(
+            InventoryRepository inventoryRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${inventory.bulk-update.chunk-size:1000}") int bulkUpdateChunkSize) {
         this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkUpdateChunkSize = bulkUpdateChunkSize;
     }
 
     public InventoryItem createItem(String productId, String productName, Integer quantity) {
@@ -33,17 +53,209 @@ public class InventoryService {
         return inventoryRepository.findAll();
     }
 
+    /**
+     * Keyset pagination - items with an id greater than the cursor, in id order
+     */
+    public List<InventoryItem> getItemsAfter(long afterId, int limit) {
+        return inventoryRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Visit every item in id order, reading chunkSize rows per query
+     * so memory stays flat regardless of table size
+     */
+    public void forEachItem(int chunkSize, Consumer<InventoryItem> action) {
+        var afterId = 0L;
+        List<InventoryItem> chunk;
+        do {
+            chunk = getItemsAfter(afterId, chunkSize);
+            for (var item : chunk) {
+                action.accept(item);
+                afterId = item.getId();
+            }
+        } while (chunk.size() == chunkSize);
+    }
+
     public boolean checkAvailability(String productId, Integer quantity) {
         return findByProductId(productId)
                 .map(item -> item.isAvailable(quantity))
                 .orElse(false);
     }
 
-    public Optional<InventoryItem> updateQuantity(String productId, Integer newQuantity) {
-        return findByProductId(productId)
-                .map(item -> {
-                    item.setQuantity(newQuantity);
-                    return inventoryRepository.save(item);
-                });
+    /**
+     * Available quantity for each known product, resolved with a single IN query.
+     * Unknown products are absent from the result.
+     */
+    public Map<String, Integer> getAvailableQuantities(Collection<String> productIds) {
+        return inventoryRepository.findByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(InventoryItem::getProductId, InventoryItem::getAvailableQuantity));
+    }
+
+    /**
+     * Set the stock level with one conditional UPDATE of the quantity column, so a
+     * concurrent reservation is never overwritten; refused if it is below what is reserved
+     */
+    @Transactional
+    public StockChange updateQuantity(String productId, int newQuantity) {
+        return applyStockChange(productId, repository -> repository.setQuantity(productId, newQuantity));
+    }
+
+    /**
+     * Set many stock levels at once. Each chunk of bulkUpdateChunkSize updates is one
+     * transaction and one JDBC batch, with no reads; a failed chunk does not undo earlier ones.
+     * A quantity below the product's reserved quantity is not applied and is reported REJECTED.
+     * If a chunk fails, its updates are retried one by one and only those that fail again
+     * are reported FAILED, so every entry always gets a result.
+     * Results are in request order. If a product appears more than once, the last quantity wins.
+     */
+    public List<QuantityUpdateResult> updateQuantities(List<QuantityUpdate> updates) {
+        var results = new ArrayList<QuantityUpdateResult>(updates.size());
+        for (var from = 0; from < updates.size(); from += bulkUpdateChunkSize) {
+            var chunk = updates.subList(from, Math.min(from + bulkUpdateChunkSize, updates.size()));
+            var quantities = new LinkedHashMap<String, Integer>();
+            for (var update : chunk) {
+                if (update.isValid()) {
+                    quantities.put(update.productId(), update.quantity());
+                }
+            }
+
+            var outcomes = quantities.isEmpty()
+                    ? Map.<String, QuantityUpdateResult.Outcome>of()
+                    : applyChunk(quantities);
+            for (var update : chunk) {
+                var outcome = update.isValid() ? outcomes.get(update.productId()) : QuantityUpdateResult.Outcome.INVALID;
+                results.add(new QuantityUpdateResult(update.productId(), outcome));
+            }
+        }
+        return results;
+    }
+
+    private Map<String, QuantityUpdateResult.Outcome> applyChunk(SequencedMap<String, Integer> quantities) {
+        try {
+            return transactionTemplate.execute(
+                    status -> outcomes(quantities, inventoryRepository.updateQuantities(quantities)));
+        } catch (RuntimeException chunkFailure) {
+            // Retried one by one so only the offending updates are lost
+            var outcomes = new HashMap<String, QuantityUpdateResult.Outcome>();
+            quantities.forEach((productId, quantity) -> {
+                var single = new LinkedHashMap<>(Map.of(productId, quantity));
+                try {
+                    outcomes.putAll(transactionTemplate.execute(
+                            status -> outcomes(single, inventoryRepository.updateQuantities(single))));
+                } catch (RuntimeException e) {
+                    outcomes.put(productId, QuantityUpdateResult.Outcome.FAILED);
+                }
+            });
+            return outcomes;
+        }
+    }
+
+    /**
+     * Outcome per product from the batch's update counts. A count of 0 is an unknown product
+     * or a refused quantity, and a driver may report a batched statement as SUCCESS_NO_INFO
+     * (-2); the stock levels of those products are then read in the same transaction.
+     */
+    private Map<String, QuantityUpdateResult.Outcome> outcomes(SequencedMap<String, Integer> quantities, int[] counts) {
+        var outcomes = new HashMap<String, QuantityUpdateResult.Outcome>();
+        var unresolved = new ArrayList<String>();
+        var i = 0;
+        for (var productId : quantities.keySet()) {
+            if (counts[i++] > 0) {
+                outcomes.put(productId, QuantityUpdateResult.Outcome.UPDATED);
+            } else {
+                unresolved.add(productId);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            var levels = new HashMap<String, Integer>();
+            for (var level : inventoryRepository.findStockLevelByProductIdIn(unresolved)) {
+                levels.put(level.productId(), level.quantity());
+            }
+            for (var productId : unresolved) {
+                var quantity = levels.get(productId);
+                outcomes.put(productId, quantity == null ? QuantityUpdateResult.Outcome.NOT_FOUND
+                        // Holds the requested quantity only if the update applied (or was a no-op)
+                        : quantity.equals(quantities.get(productId)) ? QuantityUpdateResult.Outcome.UPDATED
+                        : QuantityUpdateResult.Outcome.REJECTED);
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Reserve stock for an order; never oversells because the availability check
+     * and the increment happen in one conditional UPDATE
+     */
+    @Transactional
+    public StockChange reserve(String productId, int quantity) {
+        return applyStockChange(productId, repository -> repository.reserve(productId, quantity));
+    }
+
+    /**
+     * Release a previous reservation
+     */
+    @Transactional
+    public StockChange release(String productId, int quantity) {
+        return applyStockChange(productId, repository -> repository.release(productId, quantity));
+    }
+
+    /**
+     * Ship reserved stock: quantity and reservation both go down by the given amount
+     */
+    @Transactional
+    public StockChange commit(String productId, int quantity) {
+        return applyStockChange(productId, repository -> repository.commit(productId, quantity));
+    }
+
+    private StockChange applyStockChange(String productId, ToIntFunction<InventoryRepository> update) {
+        var updated = update.applyAsInt(inventoryRepository);
+        var item = findByProductId(productId);
+        if (item.isEmpty()) {
+            return new StockChange(StockChange.Outcome.NOT_FOUND, null);
+        }
+        var outcome = updated == 1 ? StockChange.Outcome.APPLIED : StockChange.Outcome.INSUFFICIENT_STOCK;
+        return new StockChange(outcome, item.get());
+    }
+
+    /**
+     * One entry of a bulk stock-level update
+     */
+    public record QuantityUpdate(
+            String productId,
+            Integer quantity
+    ) {
+        boolean isValid() {
+            return productId != null && !productId.isBlank() && quantity != null && quantity >= 0;
+        }
+    }
+
+    /**
+     * Per-item result of a bulk stock-level update
+     */
+    public record QuantityUpdateResult(
+            String productId,
+            Outcome outcome
+    ) {
+        public enum Outcome {
+            UPDATED,
+            NOT_FOUND,
+            INVALID,
+            REJECTED,
+            FAILED
+        }
+    }
+
+    /**
+     * Result of a conditional stock update, with the item as it is after the update
+     */
+    public record StockChange(
+            Outcome outcome,
+            InventoryItem item
+    ) {
+        public enum Outcome {
+            APPLIED,
+            INSUFFICIENT_STOCK,
+            NOT_FOUND
+        }
     }
 }
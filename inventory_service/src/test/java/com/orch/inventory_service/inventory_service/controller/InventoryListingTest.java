@@ -0,0 +1,139 @@
+package com.orch.inventory_service.inventory_service.controller;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.orch.inventory_service.inventory_service.entity.InventoryItem;
+import com.orch.inventory_service.inventory_service.repository.InventoryRepository;
+import com.orch.inventory_service.inventory_service.service.InventoryService;
+
+/**
+ * Tests for keyset pagination and NDJSON streaming of the inventory list
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inventory-listing",
+        "api.pagination.default-limit=2",
+        "api.pagination.max-limit=3",
+        "api.stream.fetch-size=2"
+})
+@AutoConfigureMockMvc
+@DisplayName("Inventory Listing Tests")
+class InventoryListingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<InventoryItem> items;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        inventoryRepository.deleteAll();
+        for (var i = 1; i <= 5; i++) {
+            inventoryService.createItem("LIST00" + i, "Product " + i, 10);
+        }
+        items = inventoryService.getItemsAfter(0, 10);
+    }
+
+    @Test
+    @DisplayName("Should follow the cursor page by page and omit it on the last page")
+    void testCursorContinuation() throws Exception {
+        // Act & Assert
+        var cursor = mockMvc.perform(get("/api/inventory").param("after", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].productId").value("LIST001"))
+                .andExpect(jsonPath("$[1].productId").value("LIST002"))
+                .andExpect(header().string(InventoryController.NEXT_CURSOR_HEADER, items.get(1).getId().toString()))
+                .andReturn().getResponse().getHeader(InventoryController.NEXT_CURSOR_HEADER);
+        cursor = mockMvc.perform(get("/api/inventory").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].productId").value("LIST003"))
+                .andExpect(jsonPath("$[1].productId").value("LIST004"))
+                .andReturn().getResponse().getHeader(InventoryController.NEXT_CURSOR_HEADER);
+        mockMvc.perform(get("/api/inventory").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].productId").value("LIST005"))
+                .andExpect(header().doesNotExist(InventoryController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should return every row in one response when no paging parameter is given")
+    void testUnpagedList() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/inventory"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(header().doesNotExist(InventoryController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should omit the cursor when the last page is exactly full")
+    void testFullLastPage() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/inventory").param("after", items.get(2).getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().doesNotExist(InventoryController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should clamp the limit to between 1 and the maximum")
+    void testLimitClamping() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/inventory").param("limit", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(InventoryController.NEXT_CURSOR_HEADER, items.get(0).getId().toString()));
+        mockMvc.perform(get("/api/inventory").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(header().string(InventoryController.NEXT_CURSOR_HEADER, items.get(2).getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should stream every item as one JSON line each across fetch boundaries")
+    void testNdjsonStream() throws Exception {
+        // Act
+        var started = mockMvc.perform(get("/api/inventory/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        var lines = body.lines().toList();
+        assertEquals(5, lines.size());
+        for (var i = 0; i < lines.size(); i++) {
+            assertEquals("LIST00" + (i + 1), objectMapper.readTree(lines.get(i)).get("productId").asText());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.orch.inventory_service.inventory_service.service;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.SequencedMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orch.inventory_service.inventory_service.repository.InventoryRepository;
+import com.orch.inventory_service.inventory_service.repository.InventoryRepository.StockLevel;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdate;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdateResult;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdateResult.Outcome;
+
+/**
+ * Tests for bulk stock-level updates when a batch fails or the driver does not report counts
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Inventory Service Bulk Update Failure Tests")
+class InventoryServiceBulkUpdateFailureTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        inventoryService = new InventoryService(inventoryRepository, new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk one by one and keep going")
+    void testFailedChunkIsRetriedPerItem() {
+        // Arrange
+        when(inventoryRepository.updateQuantities(any())).thenAnswer(invocation -> {
+            SequencedMap<String, Integer> quantities = invocation.getArgument(0);
+            if (quantities.containsKey("BAD")) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            return quantities.keySet().stream().mapToInt(productId -> productId.equals("MISSING") ? 0 : 1).toArray();
+        });
+        when(inventoryRepository.findStockLevelByProductIdIn(anyCollection())).thenReturn(List.of());
+
+        // Act
+        var results = inventoryService.updateQuantities(List.of(
+                new QuantityUpdate("P1", 1),
+                new QuantityUpdate("P2", 2),
+                new QuantityUpdate("BAD", 3),
+                new QuantityUpdate("MISSING", 4),
+                new QuantityUpdate("P3", 5)));
+
+        // Assert
+        assertEquals(List.of(
+                new QuantityUpdateResult("P1", Outcome.UPDATED),
+                new QuantityUpdateResult("P2", Outcome.UPDATED),
+                new QuantityUpdateResult("BAD", Outcome.FAILED),
+                new QuantityUpdateResult("MISSING", Outcome.NOT_FOUND),
+                new QuantityUpdateResult("P3", Outcome.UPDATED)), results);
+    }
+
+    @Test
+    @DisplayName("Should look up products whose batched update count was not reported")
+    void testSuccessNoInfoIsResolved() {
+        // Arrange
+        when(inventoryRepository.updateQuantities(any())).thenReturn(
+                new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        when(inventoryRepository.findStockLevelByProductIdIn(anyCollection())).thenReturn(List.of(
+                new StockLevel("P1", 1),
+                new StockLevel("RESERVED", 7)));
+        var service = new InventoryService(inventoryRepository, new TransactionTemplate(transactionManager), 3);
+
+        // Act
+        var results = service.updateQuantities(List.of(
+                new QuantityUpdate("P1", 1),
+                new QuantityUpdate("MISSING", 2),
+                new QuantityUpdate("RESERVED", 3)));
+
+        // Assert
+        assertEquals(List.of(
+                new QuantityUpdateResult("P1", Outcome.UPDATED),
+                new QuantityUpdateResult("MISSING", Outcome.NOT_FOUND),
+                new QuantityUpdateResult("RESERVED", Outcome.REJECTED)), results);
+    }
+}
@@ -0,0 +1,77 @@
+package com.orch.inventory_service.inventory_service.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdate;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdateResult;
+import com.orch.inventory_service.inventory_service.service.InventoryService.QuantityUpdateResult.Outcome;
+
+/**
+ * Tests for bulk stock-level updates
+ */
+@SpringBootTest(properties = "inventory.bulk-update.chunk-size=2")
+@DisplayName("Inventory Service Bulk Update Tests")
+class InventoryServiceBulkUpdateTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Test
+    @DisplayName("Should apply updates across chunks and report each entry in order")
+    void testBulkUpdate() {
+        // Arrange
+        inventoryService.createItem("BULK-1", "Product 1", 10);
+        inventoryService.createItem("BULK-2", "Product 2", 10);
+        inventoryService.createItem("BULK-3", "Product 3", 10);
+        inventoryService.reserve("BULK-1", 4);
+
+        // Act
+        var results = inventoryService.updateQuantities(List.of(
+                new QuantityUpdate("BULK-1", 25),
+                new QuantityUpdate("NO-SUCH-SKU", 5),
+                new QuantityUpdate("BULK-2", -1),
+                new QuantityUpdate("BULK-3", 7),
+                new QuantityUpdate(null, 3)));
+
+        // Assert
+        assertEquals(List.of(
+                new QuantityUpdateResult("BULK-1", Outcome.UPDATED),
+                new QuantityUpdateResult("NO-SUCH-SKU", Outcome.NOT_FOUND),
+                new QuantityUpdateResult("BULK-2", Outcome.INVALID),
+                new QuantityUpdateResult("BULK-3", Outcome.UPDATED),
+                new QuantityUpdateResult(null, Outcome.INVALID)), results);
+        var item1 = inventoryService.findByProductId("BULK-1").orElseThrow();
+        assertEquals(25, item1.getQuantity());
+        assertEquals(4, item1.getReservedQuantity());
+        assertEquals(10, inventoryService.findByProductId("BULK-2").orElseThrow().getQuantity());
+        assertEquals(7, inventoryService.findByProductId("BULK-3").orElseThrow().getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should refuse a quantity below what is reserved and leave the item unchanged")
+    void testBulkUpdateBelowReservation() {
+        // Arrange
+        inventoryService.createItem("BULK-R1", "Reserved product", 10);
+        inventoryService.createItem("BULK-R2", "Other product", 10);
+        inventoryService.reserve("BULK-R1", 4);
+
+        // Act
+        var results = inventoryService.updateQuantities(List.of(
+                new QuantityUpdate("BULK-R1", 3),
+                new QuantityUpdate("BULK-R2", 2)));
+
+        // Assert
+        assertEquals(List.of(
+                new QuantityUpdateResult("BULK-R1", Outcome.REJECTED),
+                new QuantityUpdateResult("BULK-R2", Outcome.UPDATED)), results);
+        var item = inventoryService.findByProductId("BULK-R1").orElseThrow();
+        assertEquals(10, item.getQuantity());
+        assertEquals(4, item.getReservedQuantity());
+    }
+}
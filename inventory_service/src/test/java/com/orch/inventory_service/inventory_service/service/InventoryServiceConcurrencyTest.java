@@ -0,0 +1,145 @@
+package com.orch.inventory_service.inventory_service.service;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.orch.inventory_service.inventory_service.service.InventoryService.StockChange;
+
+/**
+ * Concurrency tests for atomic stock reservation
+ * Many threads race to reserve the same hot product; exactly the available
+ * stock must be handed out and never more.
+ */
+@SpringBootTest
+@DisplayName("Inventory Service Concurrency Tests")
+class InventoryServiceConcurrencyTest {
+
+    private static final int STOCK = 100;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Test
+    @DisplayName("Should never oversell a hot product under concurrent reservations")
+    void testConcurrentReservationsNeverOversell() throws Exception {
+        // Arrange
+        inventoryService.createItem("HOT-SKU", "Hot product", STOCK);
+        var reserved = new AtomicInteger();
+        var rejected = new AtomicInteger();
+
+        // Act
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var startGate = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (var t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    for (var i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        var change = inventoryService.reserve("HOT-SKU", 1);
+                        if (change.outcome() == StockChange.Outcome.APPLIED) {
+                            reserved.incrementAndGet();
+                        } else {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        var item = inventoryService.findByProductId("HOT-SKU").orElseThrow();
+        assertEquals(STOCK, reserved.get());
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD - STOCK, rejected.get());
+        assertEquals(STOCK, item.getReservedQuantity());
+        assertEquals(0, item.getAvailableQuantity());
+    }
+
+    @Test
+    @DisplayName("Should keep every reservation while the stock level is set concurrently")
+    void testQuantityUpdatesDoNotLoseReservations() throws Exception {
+        // Arrange
+        inventoryService.createItem("RESTOCK-SKU", "Restocked product", STOCK * THREADS);
+        var reserved = new AtomicInteger();
+
+        // Act
+        var executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            var startGate = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (var t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    for (var i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        if (inventoryService.reserve("RESTOCK-SKU", 1).outcome() == StockChange.Outcome.APPLIED) {
+                            reserved.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (var i = 0; i < THREADS * ATTEMPTS_PER_THREAD; i++) {
+                    inventoryService.updateQuantity("RESTOCK-SKU", STOCK * THREADS + i % 2);
+                }
+                return null;
+            }));
+            startGate.countDown();
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        var item = inventoryService.findByProductId("RESTOCK-SKU").orElseThrow();
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, reserved.get());
+        assertEquals(reserved.get(), item.getReservedQuantity());
+        assertEquals(StockChange.Outcome.INSUFFICIENT_STOCK,
+                inventoryService.updateQuantity("RESTOCK-SKU", item.getReservedQuantity() - 1).outcome());
+    }
+
+    @Test
+    @DisplayName("Should commit and release only what is reserved")
+    void testCommitAndRelease() {
+        // Arrange
+        inventoryService.createItem("SKU-2", "Product", 10);
+        inventoryService.reserve("SKU-2", 4);
+
+        // Act
+        var commit = inventoryService.commit("SKU-2", 3);
+        var overRelease = inventoryService.release("SKU-2", 2);
+        var release = inventoryService.release("SKU-2", 1);
+        var unknown = inventoryService.reserve("NO-SUCH-SKU", 1);
+
+        // Assert
+        assertEquals(StockChange.Outcome.APPLIED, commit.outcome());
+        assertEquals(7, commit.item().getQuantity());
+        assertEquals(1, commit.item().getReservedQuantity());
+        assertEquals(StockChange.Outcome.INSUFFICIENT_STOCK, overRelease.outcome());
+        assertEquals(StockChange.Outcome.APPLIED, release.outcome());
+        assertEquals(0, release.item().getReservedQuantity());
+        assertEquals(StockChange.Outcome.NOT_FOUND, unknown.outcome());
+    }
+}
@@ -0,0 +1,107 @@
+package com.orch.order_service.order_service.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orch.order_service.order_service.client.CustomerClient.CustomerDTO;
+import com.orch.order_service.order_service.client.InventoryClient.AvailabilityRequest;
+import com.orch.order_service.order_service.client.InventoryClient.AvailabilityResponse;
+
+/**
+ * Encoding and decoding the bodies exchanged with downstream services, per format
+ * The customer lookup and a bulk availability check of one full batch, written and read
+ * with the same mappers the HTTP codecs use. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DownstreamPayloadBenchmark {
+
+    private static final TypeReference<List<AvailabilityRequest>> REQUEST_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<AvailabilityResponse>> RESPONSE_LIST = new TypeReference<>() {};
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private ObjectMapper mapper;
+    private CustomerDTO customer;
+    private List<AvailabilityRequest> requests;
+    private List<AvailabilityResponse> responses;
+    private byte[] customerBytes;
+    private byte[] requestBytes;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        var builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        mapper = builder.build();
+        customer = new CustomerDTO(42L, "CUST00042", "Jane Doe", "jane.doe@example.com", "555-0142");
+        requests = IntStream.range(0, batchSize)
+                .mapToObj(i -> new AvailabilityRequest("PROD%05d".formatted(i), 1 + i % 5))
+                .toList();
+        responses = requests.stream()
+                .map(request -> new AvailabilityResponse(request.productId(), request.quantity(), true))
+                .toList();
+        customerBytes = mapper.writeValueAsBytes(customer);
+        requestBytes = mapper.writeValueAsBytes(requests);
+        responseBytes = mapper.writeValueAsBytes(responses);
+        System.out.printf("%n%s bytes: customer %d, availability request %d, availability response %d%n",
+                format, customerBytes.length, requestBytes.length, responseBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeCustomer() throws IOException {
+        return mapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public CustomerDTO readCustomer() throws IOException {
+        return mapper.readValue(customerBytes, CustomerDTO.class);
+    }
+
+    @Benchmark
+    public byte[] writeAvailabilityRequest() throws IOException {
+        return mapper.writeValueAsBytes(requests);
+    }
+
+    @Benchmark
+    public List<AvailabilityRequest> readAvailabilityRequest() throws IOException {
+        return mapper.readValue(requestBytes, REQUEST_LIST);
+    }
+
+    @Benchmark
+    public byte[] writeAvailabilityResponse() throws IOException {
+        return mapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<AvailabilityResponse> readAvailabilityResponse() throws IOException {
+        return mapper.readValue(responseBytes, RESPONSE_LIST);
+    }
+}
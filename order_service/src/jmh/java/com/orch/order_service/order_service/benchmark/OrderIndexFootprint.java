@@ -0,0 +1,115 @@
+package com.orch.order_service.order_service.benchmark;
+
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderIndexes;
+import com.orch.order_service.order_service.store.OrderStore;
+
+/**
+ * Heap footprint of the order indexes and the order stores
+ * Not a JMH benchmark: JMH measures time, not retained memory. Each structure is
+ * built from freshly generated orders (each with its own BigDecimal and LocalDateTime,
+ * as if read from requests; customer id strings are shared) and the heap growth it
+ * leaves behind after a full GC is reported. Boxed indexes (customerId/status to
+ * concurrent sets of Long) are measured for comparison. Both stores include their
+ * indexes and aggregates; the record store also holds the Order records.
+ * Run through the jmh profile with a large enough heap:
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.main=com.orch.order_service.order_service.benchmark.OrderIndexFootprint
+ *       -Djmh.jvm.args=-Xmx4g -Djmh.args="10000000 100000"
+ */
+public final class OrderIndexFootprint {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderIndexFootprint() {
+    }
+
+    public static void main(String[] args) {
+        var orderCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        var customerCount = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        var orders = new Orders(orderCount, customerCount);
+
+        System.out.printf("%d orders, %d customers%n", orderCount, customerCount);
+        System.out.printf("%-16s %12s %14s%n", "structure", "heap MB", "bytes/order");
+        report("packed indexes", orderCount, () -> {
+            var indexes = new OrderIndexes();
+            orders.forEach(indexes::onCreated);
+            return indexes;
+        });
+        report("boxed indexes", orderCount, () -> {
+            Map<String, Set<Long>> byCustomer = new ConcurrentHashMap<>();
+            var byStatus = new EnumMap<OrderStatus, Set<Long>>(OrderStatus.class);
+            for (var status : STATUSES) {
+                byStatus.put(status, ConcurrentHashMap.newKeySet());
+            }
+            orders.forEach(order -> {
+                byCustomer.computeIfAbsent(order.customerId(), customerId -> ConcurrentHashMap.newKeySet())
+                        .add(order.id());
+                byStatus.get(order.status()).add(order.id());
+            });
+            return new Object[] {byCustomer, byStatus};
+        });
+        report("record store", orderCount, () -> {
+            var store = new OrderStore(orderCount);
+            orders.forEach(store::insert);
+            return store;
+        });
+        report("columnar store", orderCount, () -> {
+            var store = OrderStore.columnar();
+            orders.forEach(store::insert);
+            return store;
+        });
+        Reference.reachabilityFence(orders);
+    }
+
+    private static void report(String name, int orderCount, Supplier<Object> build) {
+        var before = usedHeapAfterGc();
+        var structure = build.get();
+        var retained = usedHeapAfterGc() - before;
+        Reference.reachabilityFence(structure);
+        System.out.printf("%-16s %12.1f %14.1f%n", name, retained / (1024.0 * 1024.0), (double) retained / orderCount);
+    }
+
+    private static long usedHeapAfterGc() {
+        var runtime = Runtime.getRuntime();
+        for (var i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Generates the same orders on every pass, one second apart, without keeping them
+     */
+    private static final class Orders {
+        private final int count;
+        private final String[] customers;
+        private final LocalDateTime start = LocalDateTime.now();
+
+        Orders(int count, int customerCount) {
+            this.count = count;
+            this.customers = new String[customerCount];
+            for (var i = 0; i < customerCount; i++) {
+                customers[i] = "CUST" + i;
+            }
+        }
+
+        void forEach(Consumer<Order> action) {
+            for (var i = 0; i < count; i++) {
+                action.accept(new Order((long) i + 1, customers[i % customers.length],
+                        BigDecimal.valueOf(1_000 + i % 99_000, 2), STATUSES[i % STATUSES.length],
+                        start.plusSeconds(i)));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.orch.order_service.order_service.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+
+/**
+ * Order record construction and Jackson (de)serialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderModelBenchmark {
+
+    // Configured like the Spring Boot ObjectMapper the controllers use
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final BigDecimal amount = new BigDecimal("49.99");
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private Order order;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        order = new Order(42L, "CUST001", amount, OrderStatus.PENDING, createdAt);
+        json = objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order construct() {
+        return new Order(42L, "CUST001", amount, OrderStatus.PENDING, createdAt);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order deserialize() throws IOException {
+        return objectMapper.readValue(json, Order.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.orch.order_service.order_service.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.orch.order_service.order_service.store.OrderAggregates.Totals;
+import com.orch.order_service.order_service.store.OrderStore;
+
+/**
+ * Full scans for hourly statistics: Order records against primitive columns
+ * recordScan groups the record store's orders by hour in a parallel stream;
+ * columnarScan is the columnar store's scan behind the time-range statistics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderScanBenchmark {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Param({"1000000"})
+    public int orders;
+
+    private OrderStore records;
+    private OrderStore columns;
+
+    @Setup
+    public void setUp() {
+        records = new OrderStore(orders);
+        columns = OrderStore.columnar();
+        var start = LocalDateTime.now();
+        for (var i = 0; i < orders; i++) {
+            var order = new Order(records.nextId(), "CUST" + (i % 1000), BigDecimal.valueOf(1_000 + i % 99_000, 2),
+                    STATUSES[i % STATUSES.length], start.plusSeconds(i));
+            records.insert(order);
+            columns.insert(order);
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, BigDecimal> recordScan() {
+        return records.values().parallelStream()
+                .filter(Order::isCompleted)
+                .collect(Collectors.groupingByConcurrent(order -> Granularity.HOUR.bucketStart(order.createdAt()),
+                        Collectors.reducing(BigDecimal.ZERO, Order::totalAmount, BigDecimal::add)));
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, Totals> columnarScan() {
+        return columns.rollup(Granularity.HOUR, null, null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.orch.order_service.order_service.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.service.OrderService;
+import com.orch.order_service.order_service.store.OrderStore;
+
+/**
+ * OrderService hot paths across store sizes
+ * Run with -prof gc to see allocation per operation next to throughput.
+ * The store is rebuilt for every iteration and iterations are kept short,
+ * so createOrder cannot grow it far beyond the configured size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(time = 1)
+@Measurement(time = 1)
+public class OrderServiceBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("49.99");
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Param({"1000", "100000"})
+    public int orders;
+
+    private OrderService orderService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        orderService = new OrderService(new OrderStore());
+        for (var i = 0; i < orders; i++) {
+            var order = orderService.createOrder("CUST" + (i % 1000), AMOUNT);
+            orderService.updateOrderStatus(order.id(), STATUSES[i % STATUSES.length]);
+        }
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder("CUST001", AMOUNT);
+    }
+
+    @Benchmark
+    public List<Order> getAllOrders() {
+        return orderService.getAllOrders();
+    }
+
+    @Benchmark
+    public List<Order> getCustomerOrders() {
+        return orderService.getCustomerOrders("CUST001");
+    }
+
+    @Benchmark
+    public List<Order> getOrdersByStatus() {
+        return orderService.getOrdersByStatus(OrderStatus.PENDING);
+    }
+
+    @Benchmark
+    public OrderService.OrderStatistics getStatistics() {
+        return orderService.getStatistics();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalRevenue() {
+        return orderService.calculateTotalRevenue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.orch.order_service.order_service.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Open-model load generator
+ * Requests are started on a fixed schedule whether or not earlier ones have
+ * finished, as real traffic arrives. Latency is measured from each request's
+ * scheduled start, so a stalled server or generator shows up in the tail
+ * instead of silently lowering the offered rate (coordinated omission).
+ */
+final class OpenModelLoadGenerator {
+
+    private final Duration requestTimeout;
+
+    OpenModelLoadGenerator(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Offer requests at a fixed rate for the given duration and wait for them to finish.
+     * The supplied request emits the HTTP status code of its response.
+     */
+    StepResult run(double ratePerSecond, Duration duration, Supplier<Mono<Integer>> request) throws InterruptedException {
+        var intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        var total = (int) (ratePerSecond * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+        var latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        var succeeded = new LongAdder();
+        var rejected = new LongAdder();
+        var failed = new LongAdder();
+        var completed = new CountDownLatch(total);
+
+        var start = System.nanoTime();
+        for (var i = 0; i < total; i++) {
+            var scheduled = start + i * intervalNanos;
+            for (var now = System.nanoTime(); now < scheduled; now = System.nanoTime()) {
+                LockSupport.parkNanos(scheduled - now);
+            }
+            request.get()
+                    .timeout(requestTimeout)
+                    .subscribe(
+                            status -> {
+                                latencies.recordValue(Math.min(micros(System.nanoTime() - scheduled),
+                                        latencies.getHighestTrackableValue()));
+                                (status < 300 ? succeeded : rejected).increment();
+                            },
+                            error -> {
+                                failed.increment();
+                                completed.countDown();
+                            },
+                            completed::countDown);
+        }
+        completed.await(requestTimeout.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new StepResult(
+                ratePerSecond,
+                total,
+                succeeded.sum(),
+                rejected.sum(),
+                failed.sum(),
+                succeeded.sum() / (elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1)),
+                latencies.getValueAtPercentile(50),
+                latencies.getValueAtPercentile(99),
+                latencies.getValueAtPercentile(99.9),
+                latencies.getMaxValue());
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * Outcome of one fixed-rate step; latencies are in microseconds
+     */
+    record StepResult(
+            double offeredRate,
+            long sent,
+            long succeeded,
+            long rejected,
+            long failed,
+            double throughput,
+            long p50,
+            long p99,
+            long p999,
+            long max
+    ) {
+        /**
+         * A step is saturated when the service falls behind the offered rate or starts erroring
+         */
+        boolean saturated() {
+            return throughput < offeredRate * 0.95 || (rejected + failed) > sent * 0.01;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.orch.order_service.order_service.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.orch.order_service.order_service.OrderServiceApplication;
+import com.orch.order_service.order_service.loadtest.OpenModelLoadGenerator.StepResult;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * End-to-end load test for POST /api/orders
+ * Starts order-service in-process against stub inventory and customer services,
+ * then offers orders at each fixed rate in turn and reports throughput and
+ * p50/p99/p99.9 latency per step. Results are also written to
+ * target/loadtest-result.csv so runs can be compared between releases.
+ *
+ * Options (--name=value): rates, duration, warmup, customers, products,
+ * connections, request-timeout, customer-latency, customer-error-rate,
+ * inventory-latency, inventory-error-rate. Any other option is passed to
+ * order-service, e.g. --spring.profiles.active=prod.
+ */
+public final class OrderLoadTest {
+
+    private static final Path RESULT_FILE = Path.of("target", "loadtest-result.csv");
+
+    private OrderLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would restart the application in a new class loader mid-run
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        var options = new HashMap<String, String>();
+        var applicationArgs = new ArrayList<String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            var name = arg.startsWith("--") && separator > 0 ? arg.substring(2, separator) : null;
+            if (name != null && !name.contains(".")) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        var rates = Arrays.stream(options.getOrDefault("rates", "100,200,400,800").split(","))
+                .mapToDouble(Double::parseDouble)
+                .toArray();
+        var duration = duration(options, "duration", "30s");
+        var warmup = duration(options, "warmup", "10s");
+        var customers = Integer.parseInt(options.getOrDefault("customers", "1000"));
+        var products = Integer.parseInt(options.getOrDefault("products", "100"));
+        var connections = Integer.parseInt(options.getOrDefault("connections", "1000"));
+        var requestTimeout = duration(options, "request-timeout", "10s");
+
+        try (var customerService = StubDownstream.customerService(
+                     duration(options, "customer-latency", "5ms"),
+                     Double.parseDouble(options.getOrDefault("customer-error-rate", "0")));
+             var inventoryService = StubDownstream.inventoryService(
+                     duration(options, "inventory-latency", "5ms"),
+                     Double.parseDouble(options.getOrDefault("inventory-error-rate", "0")));
+             var orderService = new SpringApplicationBuilder(OrderServiceApplication.class)
+                     .properties("logging.level.com.orch.order_service=WARN")
+                     .run(withDownstreams(applicationArgs, customerService, inventoryService))) {
+
+            var port = ((WebServerApplicationContext) orderService).getWebServer().getPort();
+            var loopResources = LoopResources.create("loadtest");
+            var connectionProvider = ConnectionProvider.builder("loadtest")
+                    .maxConnections(connections)
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            try {
+                var webClient = WebClient.builder()
+                        .baseUrl("http://localhost:" + port)
+                        .clientConnector(new ReactorClientHttpConnector(
+                                HttpClient.create(connectionProvider).runOn(loopResources)))
+                        .build();
+                var generator = new OpenModelLoadGenerator(requestTimeout);
+
+                System.out.printf("%nWarming up at %.0f req/s for %s%n", rates[0], warmup);
+                generator.run(rates[0], warmup, () -> createOrder(webClient, customers, products));
+
+                var results = new ArrayList<StepResult>();
+                for (var rate : rates) {
+                    System.out.printf("Offering %.0f req/s for %s%n", rate, duration);
+                    results.add(generator.run(rate, duration, () -> createOrder(webClient, customers, products)));
+                }
+
+                report(results, customerService, inventoryService);
+            } finally {
+                connectionProvider.dispose();
+                loopResources.dispose();
+            }
+        }
+    }
+
+    /**
+     * One order for a random customer and product; emits the response status
+     */
+    private static Mono<Integer> createOrder(WebClient webClient, int customers, int products) {
+        var random = ThreadLocalRandom.current();
+        var request = Map.of(
+                "customerId", "CUST%05d".formatted(random.nextInt(customers)),
+                "productId", "PROD%05d".formatted(random.nextInt(products)),
+                "quantity", 1 + random.nextInt(5),
+                "totalAmount", BigDecimal.valueOf(100 + random.nextInt(100_000), 2));
+        return webClient.post()
+                .uri("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+    }
+
+    /**
+     * Command-line arguments take precedence over application.properties, so the stubs are wired in this way
+     */
+    private static String[] withDownstreams(List<String> applicationArgs,
+                                            StubDownstream customerService, StubDownstream inventoryService) {
+        var args = new ArrayList<String>();
+        args.add("--server.port=0");
+        args.add("--clients.customer.base-url=" + customerService.baseUrl());
+        args.add("--clients.inventory.base-url=" + inventoryService.baseUrl());
+        args.addAll(applicationArgs);
+        return args.toArray(String[]::new);
+    }
+
+    private static void report(List<StepResult> results, StubDownstream... downstreams) throws IOException {
+        var header = "offered_rps,sent,ok,rejected,failed,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms,saturated";
+        var lines = new ArrayList<String>();
+        lines.add(header);
+
+        System.out.printf("%n%10s %8s %8s %8s %8s %12s %9s %9s %9s %9s%n",
+                "offered/s", "sent", "ok", "rejected", "failed", "achieved/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (var result : results) {
+            System.out.printf("%10.0f %8d %8d %8d %8d %12.1f %9.2f %9.2f %9.2f %9.2f%s%n",
+                    result.offeredRate(), result.sent(), result.succeeded(), result.rejected(), result.failed(),
+                    result.throughput(), millis(result.p50()), millis(result.p99()), millis(result.p999()),
+                    millis(result.max()), result.saturated() ? "  SATURATED" : "");
+            lines.add("%.0f,%d,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%s".formatted(
+                    result.offeredRate(), result.sent(), result.succeeded(), result.rejected(), result.failed(),
+                    result.throughput(), millis(result.p50()), millis(result.p99()), millis(result.p999()),
+                    millis(result.max()), result.saturated()));
+        }
+        for (var downstream : downstreams) {
+            System.out.printf("%s stub: %d requests, %d injected errors%n",
+                    downstream.name(), downstream.requests(), downstream.errors());
+        }
+
+        Files.createDirectories(RESULT_FILE.getParent());
+        Files.write(RESULT_FILE, lines);
+        System.out.println("Results written to " + RESULT_FILE);
+    }
+
+    private static Duration duration(Map<String, String> options, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(options.getOrDefault(name, defaultValue));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.orch.order_service.order_service.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+/**
+ * Local stand-in for inventory-service or customer-service
+ * Every customer and product exists and is in stock; each response is delayed by
+ * between half and one and a half times the configured latency (so it is the
+ * mean) and fails with a 500 at the configured error rate. Bodies are read and
+ * written as JSON or Smile, following Content-Type and Accept.
+ */
+final class StubDownstream implements AutoCloseable {
+
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+    private static final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private static final TypeReference<List<Map<String, Object>>> REQUEST_LIST = new TypeReference<>() {};
+
+    private final String name;
+    private final Duration latency;
+    private final double errorRate;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final DisposableServer server;
+
+    private StubDownstream(String name, Duration latency, double errorRate,
+                           BiConsumer<StubDownstream, HttpServerRoutes> routes) {
+        this.name = name;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create()
+                .port(0)
+                .route(serverRoutes -> routes.accept(this, serverRoutes))
+                .bindNow();
+    }
+
+    /**
+     * Stub customer-service: GET /api/customers/{customerId}
+     */
+    static StubDownstream customerService(Duration latency, double errorRate) {
+        return new StubDownstream("customer-service", latency, errorRate, StubDownstream::customerRoutes);
+    }
+
+    /**
+     * Stub inventory-service: single and bulk availability checks
+     */
+    static StubDownstream inventoryService(Duration latency, double errorRate) {
+        return new StubDownstream("inventory-service", latency, errorRate, StubDownstream::inventoryRoutes);
+    }
+
+    private void customerRoutes(HttpServerRoutes routes) {
+        routes.get("/api/customers/{customerId}", (request, response) -> {
+            var customerId = request.param("customerId");
+            return respond(request, response, Mono.just(Map.of(
+                    "id", 1,
+                    "customerId", customerId,
+                    "name", "Load Test " + customerId,
+                    "email", customerId.toLowerCase() + "@example.com")));
+        });
+    }
+
+    private void inventoryRoutes(HttpServerRoutes routes) {
+        routes.get("/api/inventory/{productId}/available", (request, response) -> respond(request, response,
+                        Mono.just(availability(request.param("productId"), 1))))
+                .post("/api/inventory/availability", (request, response) -> respond(request, response,
+                        request.receive().aggregate().asByteArray().map(bytes -> {
+                            try {
+                                var mapper = mapperFor(request.requestHeaders().get("Content-Type"));
+                                return mapper.readValue(bytes, REQUEST_LIST).stream()
+                                        .map(check -> availability(check.get("productId"), check.get("quantity")))
+                                        .toList();
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        })));
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    String name() {
+        return name;
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    /**
+     * Send the body in Smile when the caller prefers it, JSON otherwise
+     */
+    private Mono<Void> respond(HttpServerRequest request, HttpServerResponse response, Mono<?> body) {
+        requests.increment();
+        var random = ThreadLocalRandom.current();
+        var delay = latency.isZero() ? Mono.<Long>empty()
+                : Mono.delay(Duration.ofNanos(latency.toNanos() / 2 + random.nextLong(latency.toNanos() + 1)));
+        if (random.nextDouble() < errorRate) {
+            errors.increment();
+            return delay.then(response.status(500).send());
+        }
+        var smile = String.valueOf(request.requestHeaders().get("Accept")).startsWith(SMILE);
+        var mapper = smile ? smileMapper : jsonMapper;
+        return delay.then(response.header("Content-Type", smile ? SMILE : "application/json")
+                .sendByteArray(body.map(value -> {
+                    try {
+                        return mapper.writeValueAsBytes(value);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }))
+                .then());
+    }
+
+    private static ObjectMapper mapperFor(String contentType) {
+        return contentType != null && contentType.startsWith(SMILE) ? smileMapper : jsonMapper;
+    }
+
+    private static Map<String, Object> availability(Object productId, Object quantity) {
+        return Map.of(
+                "productId", productId,
+                "requestedQuantity", quantity == null ? 1 : quantity,
+                "available", true);
+    }
+}
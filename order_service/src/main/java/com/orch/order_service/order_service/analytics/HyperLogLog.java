@@ -0,0 +1,81 @@
+package com.orch.order_service.order_service.analytics;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Distinct count estimate in fixed memory (HyperLogLog)
+ * Each value's 64-bit hash picks one of 2^precision registers with its top bits, and
+ * the register keeps the longest run of leading zeros seen in the rest. The estimate
+ * has a standard error of 1.04 / sqrt(2^precision): 0.81% with 16 KB at precision 14.
+ * Small counts use linear counting over the empty registers, which is near exact.
+ * Updates are lock-free.
+ */
+final class HyperLogLog {
+
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    void add(String value) {
+        var hash = hash(value);
+        var index = (int) (hash >>> (64 - precision));
+        // The marker bit caps the run when the remaining bits are all zero
+        var rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        var current = (byte) REGISTER.getOpaque(registers, index);
+        while (rank > current) {
+            var witness = (byte) REGISTER.compareAndExchange(registers, index, current, rank);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    long estimate() {
+        var m = registers.length;
+        var sum = 0.0;
+        var zeros = 0;
+        for (var i = 0; i < m; i++) {
+            var register = (byte) REGISTER.getOpaque(registers, i);
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        var alpha = 0.7213 / (1 + 1.079 / m);
+        var estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    double standardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, then the MurmurHash3 finalizer to spread the bits
+     */
+    static long hash(String value) {
+        var hash = 0xcbf29ce484222325L;
+        for (var i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,204 @@
+package com.orch.order_service.order_service.analytics;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.store.OrderStore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Order Analytics
+ * Streaming sketches over every order created since the service started: order
+ * value quantiles, distinct customers and the top customers by spend. Each is
+ * updated once per new order in fixed memory, whatever the number of orders, at
+ * the cost of a documented error instead of an exact answer:
+ * - order value quantiles within orders.analytics.relative-accuracy (QuantileSketch)
+ * - distinct customers with a standard error of 1.04 / sqrt(2^orders.analytics.distinct-precision) (HyperLogLog)
+ * - spend of the orders.analytics.top-customers-capacity heaviest customers, each
+ *   overstated by at most total spend / capacity (SpaceSaving)
+ * Spend is the value of the orders when they were created, whatever happened to them after.
+ * The quantile and distinct-count sketches are lock-free and updated by the writer.
+ * The top-customer summary needs a lock, so writers only queue the spend, up to
+ * orders.analytics.pending-capacity entries, and one worker applies it; spend that
+ * finds the queue full is dropped and counted in orders.analytics.spend.dropped.
+ */
+@Component
+public class OrderAnalytics {
+
+    private static final double[] PERCENTILES = {0.50, 0.95, 0.99};
+
+    private final LongAdder orders = new LongAdder();
+    private final QuantileSketch orderValues;
+    private final HyperLogLog customers;
+    private final SpaceSaving spendByCustomer;
+    private final Queue<Spend> pendingSpend = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // One drain at a time, so spend is applied in the order it was queued
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final int pendingCapacity;
+    private final Counter droppedSpend;
+    private final Scheduler worker;
+
+    @Autowired
+    public OrderAnalytics(
+            OrderStore orderStore,
+            @Value("${orders.analytics.relative-accuracy:0.01}") double relativeAccuracy,
+            @Value("${orders.analytics.distinct-precision:14}") int distinctPrecision,
+            @Value("${orders.analytics.top-customers-capacity:1000}") int topCustomersCapacity,
+            @Value("${orders.analytics.pending-capacity:65536}") int pendingCapacity,
+            MeterRegistry meterRegistry) {
+        this(orderStore, relativeAccuracy, distinctPrecision, topCustomersCapacity, pendingCapacity, meterRegistry,
+                Schedulers.newSingle("order-analytics", true));
+    }
+
+    OrderAnalytics(
+            OrderStore orderStore,
+            double relativeAccuracy,
+            int distinctPrecision,
+            int topCustomersCapacity,
+            int pendingCapacity,
+            MeterRegistry meterRegistry,
+            Scheduler worker) {
+        this.worker = worker;
+        this.orderValues = new QuantileSketch(relativeAccuracy, 0.01, 1e12);
+        this.customers = new HyperLogLog(distinctPrecision);
+        this.spendByCustomer = new SpaceSaving(topCustomersCapacity);
+        this.pendingCapacity = pendingCapacity;
+        this.droppedSpend = Counter.builder("orders.analytics.spend.dropped")
+                .description("Order spend not counted towards top customers because the analytics queue was full")
+                .register(meterRegistry);
+        orderStore.addListener((previous, current) -> {
+            if (previous == null) {
+                record(current);
+            }
+        });
+    }
+
+    /**
+     * Count a newly created order
+     */
+    public void record(Order order) {
+        orders.increment();
+        orderValues.add(order.totalAmount().doubleValue());
+        customers.add(order.customerId());
+        if (pendingCount.incrementAndGet() > pendingCapacity) {
+            pendingCount.decrementAndGet();
+            droppedSpend.increment();
+            return;
+        }
+        pendingSpend.offer(new Spend(order.customerId(),
+                order.totalAmount().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact()));
+        if (drainScheduled.compareAndSet(false, true)) {
+            worker.schedule(() -> {
+                // Cleared first: spend queued from here on schedules another drain
+                drainScheduled.set(false);
+                drainSpend();
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.dispose();
+    }
+
+    /**
+     * Current estimates, with the top customers cut to the n heaviest
+     */
+    public Snapshot snapshot(int topCustomers) {
+        if (topCustomers < 1 || topCustomers > spendByCustomer.capacity()) {
+            throw new IllegalArgumentException("top must be between 1 and " + spendByCustomer.capacity());
+        }
+        // Spend still queued is counted first, so a snapshot includes every recorded order
+        drainSpend();
+        var percentiles = orderValues.quantiles(PERCENTILES);
+        var orderValue = percentiles == null
+                ? new OrderValue(null, null, null, orderValues.relativeAccuracy())
+                : new OrderValue(amount(percentiles[0]), amount(percentiles[1]), amount(percentiles[2]),
+                        orderValues.relativeAccuracy());
+        var top = spendByCustomer.top(topCustomers).stream()
+                .map(entry -> new TopCustomer(entry.key(), BigDecimal.valueOf(entry.weight(), 2),
+                        BigDecimal.valueOf(entry.error(), 2)))
+                .toList();
+        return new Snapshot(
+                orders.sum(),
+                orderValue,
+                new DistinctCustomers(customers.estimate(), customers.standardError()),
+                top
+        );
+    }
+
+    private void drainSpend() {
+        drainLock.lock();
+        try {
+            Spend spend;
+            while ((spend = pendingSpend.poll()) != null) {
+                pendingCount.decrementAndGet();
+                spendByCustomer.add(spend.customerId(), spend.cents());
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private record Spend(String customerId, long cents) {}
+
+    /**
+     * Analytics over all orders created since start
+     */
+    public record Snapshot(
+            long orders,
+            OrderValue orderValue,
+            DistinctCustomers distinctCustomers,
+            List<TopCustomer> topCustomers
+    ) {}
+
+    /**
+     * Order value percentiles, each within relativeError of the true value; absent before the first order
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record OrderValue(
+            BigDecimal p50,
+            BigDecimal p95,
+            BigDecimal p99,
+            double relativeError
+    ) {}
+
+    /**
+     * Estimated number of distinct customers and the relative standard error of the estimate
+     */
+    public record DistinctCustomers(
+            long estimate,
+            double standardError
+    ) {}
+
+    /**
+     * A top customer's spend, which may overstate the true spend by up to maxOverestimate
+     */
+    public record TopCustomer(
+            String customerId,
+            BigDecimal spend,
+            BigDecimal maxOverestimate
+    ) {}
+}
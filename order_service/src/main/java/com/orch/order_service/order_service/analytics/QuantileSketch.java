@@ -0,0 +1,78 @@
+package com.orch.order_service.order_service.analytics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Quantiles of positive values with a fixed relative error (DDSketch-style)
+ * Values are counted in logarithmically sized buckets, each spanning a factor of
+ * gamma = (1 + a) / (1 - a). Reporting a bucket's midpoint is then within a relative
+ * error a of every value in it, so any quantile is within a of the true value of that
+ * rank. Memory is one long per bucket whatever the number of values: about 800 for
+ * a = 1% over [minValue, maxValue] = [0.01, 10^12]. Values below minValue count as
+ * minValue and values above maxValue as maxValue, where the error bound does not hold.
+ * Updates are lock-free.
+ */
+final class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int minIndex;
+    private final AtomicLongArray counts;
+
+    QuantileSketch(double relativeAccuracy, double minValue, double maxValue) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.minIndex = rawIndex(minValue);
+        this.counts = new AtomicLongArray(rawIndex(maxValue) - minIndex + 1);
+    }
+
+    void add(double value) {
+        var index = value <= 0 ? 0 : Math.clamp(rawIndex(value) - minIndex, 0, counts.length() - 1);
+        counts.incrementAndGet(index);
+    }
+
+    /**
+     * Values at each of the given quantiles (0 to 1), or null for all when nothing was added
+     */
+    double[] quantiles(double... quantiles) {
+        // One snapshot, so all quantiles are read from the same counts
+        var snapshot = new long[counts.length()];
+        var total = 0L;
+        for (var i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return null;
+        }
+        var values = new double[quantiles.length];
+        for (var q = 0; q < quantiles.length; q++) {
+            var rank = (long) (quantiles[q] * (total - 1));
+            var seen = 0L;
+            var index = 0;
+            while (seen + snapshot[index] <= rank) {
+                seen += snapshot[index++];
+            }
+            values[q] = value(index);
+        }
+        return values;
+    }
+
+    double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    private int rawIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    // Midpoint, in relative terms, of the bucket (gamma^(i-1), gamma^i]
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index + minIndex) / (gamma + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.orch.order_service.order_service.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Heaviest keys by summed weight in fixed memory (weighted Space-Saving)
+ * At most capacity keys are tracked. A new key arriving when all slots are taken
+ * replaces the lightest one and inherits its weight, which is recorded as the new
+ * key's possible overestimate. So for every tracked key
+ * weight - error <= true weight <= weight, the error is at most total / capacity,
+ * and every key whose true weight exceeds total / capacity is tracked.
+ * Updates are serialized; OrderAnalytics feeds it from one worker, off the order write path.
+ */
+final class SpaceSaving {
+
+    private static final Comparator<Counter> BY_WEIGHT =
+            Comparator.comparingLong((Counter counter) -> counter.weight).thenComparing(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    // Ordered by weight, so the lightest counter is found in O(log capacity)
+    private final TreeSet<Counter> byWeight = new TreeSet<>(BY_WEIGHT);
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    synchronized void add(String key, long weight) {
+        var counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter(key, 0);
+            } else {
+                var lightest = byWeight.pollFirst();
+                counters.remove(lightest.key);
+                counter = new Counter(key, lightest.weight);
+            }
+            counters.put(key, counter);
+        } else {
+            byWeight.remove(counter);
+        }
+        counter.weight += weight;
+        byWeight.add(counter);
+    }
+
+    /**
+     * The n heaviest tracked keys, heaviest first
+     */
+    synchronized List<Entry> top(int n) {
+        var top = new ArrayList<Entry>(Math.min(n, counters.size()));
+        for (var counter : byWeight.descendingSet()) {
+            if (top.size() == n) {
+                break;
+            }
+            top.add(new Entry(counter.key, counter.weight, counter.error));
+        }
+        return top;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * A tracked key: weight may overstate its true weight by up to error
+     */
+    record Entry(String key, long weight, long error) {}
+
+    private static final class Counter {
+        private final String key;
+        private final long error;
+        private long weight;
+
+        Counter(String key, long error) {
+            this.key = key;
+            this.error = error;
+            this.weight = error;
+        }
+    }
+}
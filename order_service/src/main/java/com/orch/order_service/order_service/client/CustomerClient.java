@@ -1,47 +1,90 @@
 package com.orch.order_service.order_service.client;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import reactor.core.publisher.Mono;
 
 /**
  * Customer Service Client
  * Demonstrates inter-service communication using WebClient
+ * Lookups go through a bounded async cache: known customers are kept for the TTL,
+ * unknown ids for a shorter negative TTL, and concurrent misses for the same id
+ * share one in-flight request. Failed lookups are never cached.
+ * Requests that reach customer-service are timed as downstream.calls.
  */
 @Service
 public class CustomerClient {
 
     private final WebClient customerWebClient;
+    private final Duration callTimeout;
+    private final AsyncCache<String, Optional<CustomerDTO>> customers;
+    private final DownstreamMetrics metrics;
 
-    public CustomerClient(@Qualifier("customerWebClient") WebClient customerWebClient) {
+    public CustomerClient(
+            @Qualifier("customerWebClient") WebClient customerWebClient,
+            @Value("${clients.customer.call-timeout:2s}") Duration callTimeout,
+            @Value("${clients.customer.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${clients.customer.cache.ttl:5m}") Duration cacheTtl,
+            @Value("${clients.customer.cache.negative-ttl:30s}") Duration negativeCacheTtl,
+            MeterRegistry meterRegistry) {
         this.customerWebClient = customerWebClient;
+        this.callTimeout = callTimeout;
+        this.customers = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.<String, Optional<CustomerDTO>>creating(
+                        (customerId, customer) -> customer.isPresent() ? cacheTtl : negativeCacheTtl))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, customers, "customers");
+        this.metrics = new DownstreamMetrics(meterRegistry, "customer-service");
     }
 
     /**
-     * Get customer by ID from customer-service
+     * Get customer by ID, from the cache or customer-service; empty if the customer does not exist
      */
     public Mono<CustomerDTO> getCustomer(String customerId) {
-        return customerWebClient
-                .get()
-                .uri("/api/customers/{customerId}", customerId)
-                .retrieve()
-                .bodyToMono(CustomerDTO.class);
+        // suppressCancel: one cancelled caller must not cancel the lookup shared with others
+        return Mono.fromFuture(() -> customers.get(customerId, (id, executor) -> fetchCustomer(id).toFuture()), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Check if customer exists (non-blocking).
+     * Timeouts and other failures are propagated.
+     */
+    public Mono<Boolean> customerExists(String customerId) {
+        return getCustomer(customerId)
+                .map(customer -> true)
+                .defaultIfEmpty(false);
     }
 
     /**
-     * Check if customer exists
+     * Fetch a customer from customer-service; a 404 is a cacheable "not found"
      */
-    public boolean customerExists(String customerId) {
-        try {
-            return getCustomer(customerId)
-                    .map(customer -> true)
-                    .onErrorReturn(false)
-                    .block();
-        } catch (Exception e) {
-            return false;
-        }
+    private Mono<Optional<CustomerDTO>> fetchCustomer(String customerId) {
+        return metrics.timed("get_customer", customerWebClient
+                        .get()
+                        .uri("/api/customers/{customerId}", customerId)
+                        .retrieve()
+                        .bodyToMono(CustomerDTO.class)
+                        .map(Optional::of)
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(Optional.empty()))
+                        .defaultIfEmpty(Optional.empty())
+                        .timeout(callTimeout),
+                customer -> customer.isPresent() ? "SUCCESS" : "NOT_FOUND");
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.orch.order_service.order_service.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Timers for calls to a downstream service
+ * Each call is recorded as downstream.calls, tagged by service, operation and
+ * outcome, with a percentile histogram so tail latency can be queried per call.
+ */
+final class DownstreamMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final String service;
+    // Registered on first use per operation and outcome, then reused; a registry lookup
+    // by name and tags on every call is costly
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    DownstreamMetrics(MeterRegistry meterRegistry, String service) {
+        this.meterRegistry = meterRegistry;
+        this.service = service;
+    }
+
+    /**
+     * Time a call from subscription to its result; outcome names the successful result
+     */
+    <T> Mono<T> timed(String operation, Mono<T> call, Function<? super T, String> outcome) {
+        return Mono.defer(() -> {
+            var sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> sample.stop(timer(operation, result == null ? "EMPTY" : outcome.apply(result))))
+                    .doOnError(e -> sample.stop(timer(operation, outcome(e))))
+                    .doOnCancel(() -> sample.stop(timer(operation, "CANCELLED")));
+        });
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(operation, outcome), key -> Timer.builder("downstream.calls")
+                .description("Calls to downstream services")
+                .tag("service", service)
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable error) {
+        return switch (error) {
+            case TimeoutException e -> "TIMEOUT";
+            case WebClientResponseException e when e.getStatusCode().is4xxClientError() -> "CLIENT_ERROR";
+            case WebClientResponseException e -> "SERVER_ERROR";
+            case WebClientRequestException e -> "IO_ERROR";
+            default -> "ERROR";
+        };
+    }
+
+    private record TimerKey(String operation, String outcome) {}
+}
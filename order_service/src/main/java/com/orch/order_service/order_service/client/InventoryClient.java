@@ -1,51 +1,172 @@
 package com.orch.order_service.order_service.client;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 /**
  * Inventory Service Client
  * Demonstrates inter-service communication using WebClient
+ * Availability checks made within a short window are coalesced into a single
+ * bulk request, so a burst of orders costs a handful of calls instead of one each.
+ * Requests are timed as downstream.calls and batch sizes recorded as downstream.batch.size;
+ * checks answered "not available" are counted in inventory.availability.rejections.
  */
 @Service
 public class InventoryClient {
 
+    private static final ParameterizedTypeReference<List<AvailabilityResponse>> AVAILABILITY_LIST =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient inventoryWebClient;
+    private final Duration callTimeout;
+    private final boolean batchingEnabled;
+    private final Disposable batcher;
+    private final DownstreamMetrics metrics;
+    private final DistributionSummary batchSize;
+    private final Counter rejections;
+    private FluxSink<PendingCheck> pendingChecks;
 
-    public InventoryClient(@Qualifier("inventoryWebClient") WebClient inventoryWebClient) {
+    public InventoryClient(
+            @Qualifier("inventoryWebClient") WebClient inventoryWebClient,
+            @Value("${clients.inventory.call-timeout:2s}") Duration callTimeout,
+            @Value("${clients.inventory.batch.enabled:true}") boolean batchingEnabled,
+            @Value("${clients.inventory.batch.window:5ms}") Duration batchWindow,
+            @Value("${clients.inventory.batch.max-size:100}") int maxBatchSize,
+            @Value("${clients.inventory.batch.max-concurrent:8}") int maxConcurrentBatches,
+            MeterRegistry meterRegistry) {
         this.inventoryWebClient = inventoryWebClient;
+        this.callTimeout = callTimeout;
+        this.batchingEnabled = batchingEnabled;
+        this.metrics = new DownstreamMetrics(meterRegistry, "inventory-service");
+        this.batchSize = DistributionSummary.builder("downstream.batch.size")
+                .description("Availability checks per bulk inventory request")
+                .tag("service", "inventory-service")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("inventory.availability.rejections")
+                .description("Availability checks answered as not available")
+                .register(meterRegistry);
+        // FluxSink is serialized, so checks can be submitted from any thread
+        this.batcher = Flux.<PendingCheck>create(sink -> this.pendingChecks = sink)
+                .bufferTimeout(maxBatchSize, batchWindow, true)
+                .flatMap(this::sendBatch, maxConcurrentBatches)
+                .subscribe();
     }
 
     /**
      * Check product availability
      */
     public Mono<AvailabilityResponse> checkAvailability(String productId, Integer quantity) {
-        return inventoryWebClient
-                .get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/api/inventory/{productId}/available")
-                        .queryParam("quantity", quantity)
-                        .build(productId))
-                .retrieve()
-                .bodyToMono(AvailabilityResponse.class);
+        return metrics.timed("check_availability", inventoryWebClient
+                        .get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/api/inventory/{productId}/available")
+                                .queryParam("quantity", quantity)
+                                .build(productId))
+                        .retrieve()
+                        .bodyToMono(AvailabilityResponse.class)
+                        .timeout(callTimeout),
+                response -> "SUCCESS");
+    }
+
+    /**
+     * Check availability of many products in one request; results are in request order
+     */
+    public Mono<List<AvailabilityResponse>> checkAvailability(List<AvailabilityRequest> requests) {
+        return metrics.timed("check_availability_bulk", inventoryWebClient
+                        .post()
+                        .uri("/api/inventory/availability")
+                        .bodyValue(requests)
+                        .retrieve()
+                        .bodyToMono(AVAILABILITY_LIST)
+                        .timeout(callTimeout),
+                responses -> "SUCCESS");
+    }
+
+    /**
+     * Check if product is available (non-blocking).
+     * Concurrent checks are micro-batched into bulk requests when batching is enabled.
+     * An unknown product is reported as unavailable; timeouts and other failures are propagated.
+     */
+    public Mono<Boolean> isProductAvailable(String productId, Integer quantity) {
+        var available = batchingEnabled
+                ? Mono.<Boolean>create(sink -> pendingChecks.next(new PendingCheck(productId, quantity, sink)))
+                        .timeout(callTimeout)
+                : checkAvailability(productId, quantity)
+                        .map(AvailabilityResponse::available)
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(false))
+                        .defaultIfEmpty(false);
+        return available.doOnNext(result -> {
+            if (!result) {
+                rejections.increment();
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batcher.dispose();
     }
 
     /**
-     * Check if product is available (blocking)
+     * Send one bulk request for a window of checks.
+     * Identical product/quantity pairs are sent once and answered together.
      */
-    public boolean isProductAvailable(String productId, Integer quantity) {
-        try {
-            return checkAvailability(productId, quantity)
-                    .map(AvailabilityResponse::available)
-                    .onErrorReturn(false)
-                    .block();
-        } catch (Exception e) {
-            return false;
+    private Mono<Void> sendBatch(List<PendingCheck> batch) {
+        var waiting = new LinkedHashMap<AvailabilityRequest, List<MonoSink<Boolean>>>();
+        for (var check : batch) {
+            waiting.computeIfAbsent(new AvailabilityRequest(check.productId(), check.quantity()),
+                    request -> new ArrayList<>()).add(check.sink());
         }
+        var requests = List.copyOf(waiting.keySet());
+        batchSize.record(batch.size());
+
+        return checkAvailability(requests)
+                .defaultIfEmpty(List.of())
+                .doOnNext(responses -> {
+                    for (var i = 0; i < requests.size(); i++) {
+                        var available = i < responses.size() && responses.get(i).available();
+                        waiting.get(requests.get(i)).forEach(sink -> sink.success(available));
+                    }
+                })
+                .doOnError(e -> waiting.values().forEach(sinks -> sinks.forEach(sink -> sink.error(e))))
+                .onErrorResume(e -> Mono.empty())
+                .then();
     }
 
+    private record PendingCheck(
+            String productId,
+            Integer quantity,
+            MonoSink<Boolean> sink
+    ) {}
+
+    /**
+     * Availability Request DTO record
+     */
+    public record AvailabilityRequest(
+            String productId,
+            Integer quantity
+    ) {}
+
     /**
      * Availability Response DTO record
      */
@@ -0,0 +1,37 @@
+package com.orch.order_service.order_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.MediaType;
+
+/**
+ * Connection settings for the downstream services, bound from clients.inventory.* and clients.customer.*
+ */
+@ConfigurationProperties(prefix = "clients")
+public record DownstreamClientProperties(
+        Downstream inventory,
+        Downstream customer
+) {
+
+    /**
+     * Base URL, connection pool limits and socket timeouts for one downstream service.
+     * mediaType is the body encoding sent and preferred in responses, with JSON as the fallback.
+     */
+    public record Downstream(
+            String baseUrl,
+            @DefaultValue("100") int maxConnections,
+            @DefaultValue("1000") int pendingAcquireMaxCount,
+            @DefaultValue("2s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictInBackground,
+            @DefaultValue("1s") Duration connectTimeout,
+            @DefaultValue("5s") Duration readTimeout,
+            @DefaultValue("5s") Duration writeTimeout,
+            @DefaultValue("5s") Duration responseTimeout,
+            @DefaultValue("true") boolean keepAlive,
+            @DefaultValue("application/x-jackson-smile") MediaType mediaType
+    ) {}
+}
@@ -0,0 +1,41 @@
+package com.orch.order_service.order_service.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.persistence.WriteBehindOrderPersistence;
+import com.orch.order_service.order_service.store.OrderStore;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics Configuration
+ * Gauges over the order store, read from its running aggregates so a scrape never
+ * walks the orders, plus the write-behind backlog when write-behind is enabled.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder orderStoreMetrics(OrderStore orders,
+                                         ObjectProvider<WriteBehindOrderPersistence> writeBehind) {
+        return registry -> {
+            Gauge.builder("orders.store.size", orders, OrderStore::size)
+                    .description("Orders held in the order store")
+                    .register(registry);
+            for (var status : OrderStatus.values()) {
+                Gauge.builder("orders.by.status", orders, store -> store.aggregates().count(status))
+                        .description("Orders by current status")
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+            writeBehind.ifAvailable(persistence -> Gauge.builder("orders.persistence.pending", persistence,
+                            WriteBehindOrderPersistence::pendingWrites)
+                    .description("Order writes queued for the database")
+                    .register(registry));
+        };
+    }
+}
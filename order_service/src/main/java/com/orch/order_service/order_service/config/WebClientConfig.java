@@ -1,32 +1,116 @@
 package com.orch.order_service.order_service.config;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 /**
  * WebClient Configuration
  * Demonstrates configuration of WebClient for inter-service communication
+ * Each downstream service gets its own connection pool so one slow service cannot
+ * starve the other; pool sizes, timeouts and URLs come from clients.* properties
+ * and pool usage is published as reactor.netty.connection.provider.* metrics.
+ * Bodies are exchanged in clients.*.media-type (Smile by default), which is cheaper
+ * to write and parse than JSON; a service that only speaks JSON still answers in JSON.
  */
 @Configuration
+@EnableConfigurationProperties(DownstreamClientProperties.class)
 public class WebClientConfig {
 
+    private static final Set<HttpMethod> BODY_METHODS = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider inventoryConnectionProvider(DownstreamClientProperties properties) {
+        return connectionProvider("inventory-service", properties.inventory());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider customerConnectionProvider(DownstreamClientProperties properties) {
+        return connectionProvider("customer-service", properties.customer());
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient inventoryWebClient(
+            WebClient.Builder builder,
+            @Qualifier("inventoryConnectionProvider") ConnectionProvider connectionProvider,
+            DownstreamClientProperties properties) {
+        return webClient(builder, connectionProvider, properties.inventory());
     }
 
     @Bean
-    public WebClient inventoryWebClient(WebClient.Builder builder) {
-        return builder
-                .baseUrl("http://localhost:8082")
+    public WebClient customerWebClient(
+            WebClient.Builder builder,
+            @Qualifier("customerConnectionProvider") ConnectionProvider connectionProvider,
+            DownstreamClientProperties properties) {
+        return webClient(builder, connectionProvider, properties.customer());
+    }
+
+    private static ConnectionProvider connectionProvider(String name, DownstreamClientProperties.Downstream downstream) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(downstream.maxConnections())
+                .pendingAcquireMaxCount(downstream.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(downstream.pendingAcquireTimeout())
+                .maxIdleTime(downstream.maxIdleTime())
+                .maxLifeTime(downstream.maxLifeTime())
+                .evictInBackground(downstream.evictInBackground())
+                .metrics(true)
                 .build();
     }
 
-    @Bean
-    public WebClient customerWebClient(WebClient.Builder builder) {
+    /**
+     * Build a client on the Boot-configured builder (codecs and http.client.requests metrics).
+     * Read and write timeouts are added per request so idle pooled connections are not closed by them.
+     */
+    private static WebClient webClient(
+            WebClient.Builder builder,
+            ConnectionProvider connectionProvider,
+            DownstreamClientProperties.Downstream downstream) {
+        var readTimeoutMillis = downstream.readTimeout().toMillis();
+        var writeTimeoutMillis = downstream.writeTimeout().toMillis();
+        var httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(downstream.connectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, downstream.keepAlive())
+                .keepAlive(downstream.keepAlive())
+                .responseTimeout(downstream.responseTimeout())
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeoutMillis, TimeUnit.MILLISECONDS)));
         return builder
-                .baseUrl("http://localhost:8083")
+                .baseUrl(downstream.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeaders(headers -> headers.setAccept(accept(downstream.mediaType())))
+                // Bodies are encoded for their Content-Type when the request is sent
+                .filter((request, next) -> next.exchange(BODY_METHODS.contains(request.method())
+                        && request.headers().getContentType() == null
+                        ? ClientRequest.from(request).headers(headers -> headers.setContentType(downstream.mediaType()))
+                                .build()
+                        : request))
                 .build();
     }
+
+    /**
+     * The configured media type first, then JSON at a lower quality
+     */
+    static List<MediaType> accept(MediaType mediaType) {
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return List.of(MediaType.APPLICATION_JSON);
+        }
+        return List.of(mediaType, MediaType.parseMediaType("application/json;q=0.9"));
+    }
 }
@@ -1,14 +1,31 @@
 package com.orch.order_service.order_service.controller;
 
+import com.orch.order_service.order_service.analytics.OrderAnalytics;
+import com.orch.order_service.order_service.events.OrderEvent;
+import com.orch.order_service.order_service.events.OrderEventStream;
 import com.orch.order_service.order_service.model.Order;
 import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.service.IdempotencyCache;
+import com.orch.order_service.order_service.service.OrderProcessor;
 import com.orch.order_service.order_service.service.OrderService;
+import com.orch.order_service.order_service.service.OrderValidator;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -21,21 +38,59 @@ public class OrderController {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
     private final OrderService orderService;
+    private final OrderValidator orderValidator;
+    private final OrderProcessor orderProcessor;
+    private final IdempotencyCache idempotencyCache;
+    private final OrderEventStream orderEvents;
+    private final OrderAnalytics orderAnalytics;
+    private final Duration heartbeat;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderValidator orderValidator, OrderProcessor orderProcessor,
+                           IdempotencyCache idempotencyCache, OrderEventStream orderEvents,
+                           OrderAnalytics orderAnalytics,
+                           @Value("${orders.events.heartbeat:15s}") Duration heartbeat) {
         this.orderService = orderService;
+        this.orderValidator = orderValidator;
+        this.orderProcessor = orderProcessor;
+        this.idempotencyCache = idempotencyCache;
+        this.orderEvents = orderEvents;
+        this.orderAnalytics = orderAnalytics;
+        this.heartbeat = heartbeat;
     }
 
     /**
-     * Create a new order
+     * Create a new order. With asynchronous processing the order is queued and returned
+     * PENDING with 202 (429 when the queue is full); otherwise the customer and stock are
+     * validated concurrently first. Either way the path is non-blocking.
+     * With an Idempotency-Key, a retry gets the original response instead of a second order.
      */
     @PostMapping
-    public ResponseEntity<Order> createOrder(@RequestBody CreateOrderRequest request) {
+    public Mono<ResponseEntity<Order>> createOrder(
+            @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return create(request);
+        }
+        return idempotencyCache.execute(idempotencyKey, request, () -> create(request));
+    }
+
+    private Mono<ResponseEntity<Order>> create(CreateOrderRequest request) {
         logger.info("Creating order for customer: {}", request.customerId());
-        // Using var for type inference
-        var order = orderService.createOrder(request.customerId(), request.totalAmount());
-        logger.info("Order created successfully: {}", order.id());
-        return ResponseEntity.ok(order);
+        if (orderProcessor.isEnabled()) {
+            return Mono.fromSupplier(() -> {
+                var order = orderProcessor.submit(request.customerId(), request.totalAmount(),
+                        request.productId(), request.quantity());
+                logger.info("Order queued for processing: {}", order.id());
+                return ResponseEntity.accepted().body(order);
+            });
+        }
+        return orderValidator.validate(request.customerId(), request.productId(), request.quantity())
+                .then(Mono.fromSupplier(() -> {
+                    // Using var for type inference
+                    var order = orderService.createOrder(request.customerId(), request.totalAmount());
+                    logger.info("Order created successfully: {}", order.id());
+                    return ResponseEntity.ok(order);
+                }));
     }
 
     /**
@@ -92,28 +147,99 @@ public class OrderController {
     }
 
     /**
-     * Get order statistics
+     * Stream order changes as server-sent events, optionally filtered by status or customer.
+     * A reconnecting EventSource sends Last-Event-ID and resumes after that event;
+     * a comment is sent every heartbeat so idle connections are not closed by proxies.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<OrderEvent>> streamEvents(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) Long lastEventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader) {
+        var resumeAfter = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+        var events = orderEvents.subscribe(new OrderEventStream.Filter(status, customerId), resumeAfter)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(Long.toString(event.id()))
+                        .event(event.type().name())
+                        .build());
+        // Heartbeats stop when the events end, e.g. when a slow subscriber is disconnected
+        return events.publish(shared -> shared.mergeWith(Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<OrderEvent>builder().comment("heartbeat").build())
+                .takeUntilOther(shared.ignoreElements())));
+    }
+
+    /**
+     * Stream order changes as newline-delimited JSON; same filters, resume with lastEventId
+     */
+    @GetMapping(value = "/events", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderEvent> streamEventsNdjson(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) Long lastEventId) {
+        return orderEvents.subscribe(new OrderEventStream.Filter(status, customerId), lastEventId);
+    }
+
+    /**
+     * Get order statistics, all time or for orders created in [from, to) bucketed by
+     * granularity (minute, hour or day; default day). Ranged reads may scan the order
+     * table, so they run off the event loop.
      */
     @GetMapping("/statistics")
-    public ResponseEntity<OrderService.OrderStatistics> getStatistics() {
-        return ResponseEntity.ok(orderService.getStatistics());
+    public Mono<ResponseEntity<OrderService.OrderStatistics>> getStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String granularity) {
+        if (from == null && to == null && granularity == null) {
+            return Mono.just(ResponseEntity.ok(orderService.getStatistics()));
+        }
+        return Mono.fromCallable(() -> ResponseEntity.ok(orderService.getStatistics(from, to, granularity(granularity))))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     /**
-     * Get total revenue
+     * Get total revenue, all time or for orders created in [from, to) bucketed by granularity
      */
     @GetMapping("/revenue")
-    public ResponseEntity<RevenueResponse> getTotalRevenue() {
-        var revenue = orderService.calculateTotalRevenue();
-        return ResponseEntity.ok(new RevenueResponse(revenue));
+    public Mono<ResponseEntity<RevenueResponse>> getTotalRevenue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String granularity) {
+        if (from == null && to == null && granularity == null) {
+            var revenue = orderService.calculateTotalRevenue();
+            return Mono.just(ResponseEntity.ok(new RevenueResponse(revenue, null)));
+        }
+        return Mono.fromCallable(() -> {
+                    var report = orderService.calculateRevenue(from, to, granularity(granularity));
+                    return ResponseEntity.ok(new RevenueResponse(report.totalRevenue(), report.buckets()));
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Get order value percentiles, distinct customers and the top customers by spend,
+     * estimated from streaming sketches. The snapshot first folds in buffered spend, so it
+     * runs off the event loop.
+     */
+    @GetMapping("/analytics")
+    public Mono<ResponseEntity<OrderAnalytics.Snapshot>> getAnalytics(@RequestParam(defaultValue = "10") int top) {
+        return Mono.fromCallable(() -> ResponseEntity.ok(orderAnalytics.snapshot(top)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Granularity granularity(String granularity) {
+        return granularity == null ? Granularity.DAY : Granularity.parse(granularity);
     }
 
     /**
-     * Record for create order request
+     * Record for create order request; productId and quantity are optional
+     * and enable the stock check
      */
     public record CreateOrderRequest(
             String customerId,
-            BigDecimal totalAmount
+            BigDecimal totalAmount,
+            String productId,
+            Integer quantity
     ) {}
 
     /**
@@ -124,9 +250,11 @@ public class OrderController {
     ) {}
 
     /**
-     * Record for revenue response
+     * Record for revenue response; buckets are only present for a time-range query
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record RevenueResponse(
-            BigDecimal totalRevenue
+            BigDecimal totalRevenue,
+            List<OrderService.PeriodRevenue> buckets
     ) {}
 }
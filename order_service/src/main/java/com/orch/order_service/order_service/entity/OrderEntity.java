@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -12,16 +13,24 @@ import java.time.LocalDateTime;
 /**
  * Order JPA Entity
  * Demonstrates Lombok annotations for reducing boilerplate code
+ * Ids are assigned by the in-memory order store, which keeps Hibernate JDBC batching
+ * available (IDENTITY generation disables it) and lets new rows be inserted without a select.
+ * Databases created with a generated id column are moved over by db/migration/orders_assigned_ids.sql.
+ * Indexed for lookups by customer (optionally narrowed by status and creation time) and by status;
+ * schemas Hibernate does not generate get the indexes from db/migration/orders_indexes.sql.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Also serves lookups by customerId alone, so that needs no index of its own
+        @Index(name = "idx_orders_customer_status_created", columnList = "customerId, status, createdAt"),
+        @Index(name = "idx_orders_status", columnList = "status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderEntity {
+public class OrderEntity implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
@@ -37,6 +46,20 @@ public class OrderEntity {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
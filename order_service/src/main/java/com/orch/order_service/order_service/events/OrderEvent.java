@@ -0,0 +1,17 @@
+package com.orch.order_service.order_service.events;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+
+/**
+ * One change to an order, as pushed to stream subscribers.
+ * Ids increase by one per change, so a gap tells a client it missed events.
+ */
+public record OrderEvent(
+        long id,
+        Type type,
+        OrderStatus previousStatus,
+        Order order
+) {
+    public enum Type { CREATED, STATUS_CHANGED }
+}
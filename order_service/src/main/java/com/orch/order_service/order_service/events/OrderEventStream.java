@@ -0,0 +1,222 @@
+package com.orch.order_service.order_service.events;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order Event Stream
+ * Turns every order store insert and update into a numbered OrderEvent and fans it
+ * out to subscribers. The last replaySize events are kept so a reconnecting client
+ * can resume after the last id it saw. Each subscriber has its own bounded buffer;
+ * when a slow subscriber's buffer is full its new events are either dropped or the
+ * subscriber is disconnected (after its buffer drains) so it can resume from its last id.
+ * Order writers only number the event, store it in the replay ring and queue it;
+ * fan-out to subscribers happens on a dispatcher thread, outside the store's entry lock,
+ * so neither slow nor numerous subscribers hold up order writes.
+ */
+@Component
+public class OrderEventStream {
+
+    public enum OverflowPolicy { DROP, DISCONNECT }
+
+    // Held only to number an event, store it and queue it, so the queue is in id order
+    private final Object lock = new Object();
+    private final OrderEvent[] replay;
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final Queue<OrderEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger dispatchRequests = new AtomicInteger();
+    private final Scheduler dispatcher;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Counter dropped;
+    private final Counter disconnected;
+
+    @Autowired
+    public OrderEventStream(
+            OrderStore orders,
+            @Value("${orders.events.replay-size:10000}") int replaySize,
+            @Value("${orders.events.buffer-size:256}") int bufferSize,
+            @Value("${orders.events.overflow:disconnect}") OverflowPolicy overflowPolicy,
+            MeterRegistry meterRegistry) {
+        this(orders, replaySize, bufferSize, overflowPolicy, meterRegistry, Schedulers.newSingle("order-events", true));
+    }
+
+    OrderEventStream(
+            OrderStore orders,
+            int replaySize,
+            int bufferSize,
+            OverflowPolicy overflowPolicy,
+            MeterRegistry meterRegistry,
+            Scheduler dispatcher) {
+        // Checked here, as a zero-length replay buffer would fail every order write later
+        if (replaySize < 1) {
+            throw new IllegalArgumentException("Replay size must be positive: " + replaySize);
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.replay = new OrderEvent[replaySize];
+        this.dispatcher = dispatcher;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.dropped = Counter.builder("orders.events.dropped")
+                .description("Order events dropped for slow subscribers")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("orders.events.disconnected")
+                .description("Slow subscribers disconnected from the order event stream")
+                .register(meterRegistry);
+        Gauge.builder("orders.events.subscribers", subscribers, List::size)
+                .description("Open order event stream subscriptions")
+                .register(meterRegistry);
+        orders.addListener(this::publish);
+    }
+
+    /**
+     * Events matching the filter: first those after lastEventId still in the replay
+     * buffer (none when lastEventId is null), then live events as they happen.
+     * Ids restart at 1 when the service restarts, so a lastEventId beyond the newest
+     * event comes from an earlier run and everything still buffered is replayed.
+     */
+    public Flux<OrderEvent> subscribe(Filter filter, Long lastEventId) {
+        return Flux.defer(() -> {
+            List<OrderEvent> missed;
+            Subscriber subscriber;
+            // Taken together under the lock, so nothing is missed or sent twice between replay and live
+            synchronized (lock) {
+                var newest = this.lastEventId.get();
+                var afterId = lastEventId == null ? newest : lastEventId > newest ? 0 : lastEventId;
+                missed = replayBetween(afterId, newest, filter);
+                subscriber = new Subscriber(filter, newest);
+                subscribers.add(subscriber);
+            }
+            return Flux.fromIterable(missed)
+                    .concatWith(subscriber.sink.asFlux())
+                    .doFinally(signal -> subscribers.remove(subscriber));
+        });
+    }
+
+    /**
+     * Id of the most recent event, 0 before the first
+     */
+    public long lastEventId() {
+        return lastEventId.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.dispose();
+    }
+
+    // Runs inside the store's entry lock: O(1) and never touches a subscriber
+    private void publish(Order previous, Order current) {
+        synchronized (lock) {
+            var id = lastEventId.incrementAndGet();
+            var event = previous == null
+                    ? new OrderEvent(id, OrderEvent.Type.CREATED, null, current)
+                    : new OrderEvent(id, OrderEvent.Type.STATUS_CHANGED, previous.status(), current);
+            replay[(int) (id % replay.length)] = event;
+            pending.offer(event);
+        }
+        if (dispatchRequests.getAndIncrement() == 0) {
+            dispatcher.schedule(this::dispatch);
+        }
+    }
+
+    /**
+     * Drain queued events to the subscribers, one dispatcher task at a time
+     */
+    private void dispatch() {
+        var missed = 1;
+        do {
+            OrderEvent event;
+            while ((event = pending.poll()) != null) {
+                for (var subscriber : subscribers) {
+                    subscriber.offer(event);
+                }
+            }
+            missed = dispatchRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private List<OrderEvent> replayBetween(long afterId, long lastId, Filter filter) {
+        var events = new ArrayList<OrderEvent>();
+        var from = Math.max(afterId + 1, lastId - replay.length + 1);
+        for (var id = Math.max(from, 1); id <= lastId; id++) {
+            var event = replay[(int) (id % replay.length)];
+            if (filter.test(event)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private final class Subscriber {
+        private final Filter filter;
+        // Events up to this id were replayed or precede the subscription
+        private final long liveAfter;
+        // Exactly bufferSize; Reactor's own queues round the capacity up
+        private final Sinks.Many<OrderEvent> sink =
+                Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(bufferSize));
+
+        Subscriber(Filter filter, long liveAfter) {
+            this.filter = filter;
+            this.liveAfter = liveAfter;
+        }
+
+        // Called only by the dispatcher, which keeps emissions to the sink serialized
+        void offer(OrderEvent event) {
+            if (event.id() <= liveAfter || !filter.test(event)) {
+                return;
+            }
+            var result = sink.tryEmitNext(event);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                if (overflowPolicy == OverflowPolicy.DROP) {
+                    dropped.increment();
+                } else {
+                    disconnected.increment();
+                    subscribers.remove(this);
+                    sink.tryEmitComplete();
+                }
+            } else if (result.isFailure()) {
+                subscribers.remove(this);
+            }
+        }
+    }
+
+    /**
+     * Subscriber filter; a null field matches everything
+     */
+    public record Filter(
+            OrderStatus status,
+            String customerId
+    ) {
+        public static final Filter ALL = new Filter(null, null);
+
+        boolean test(OrderEvent event) {
+            return (status == null || event.order().status() == status)
+                    && (customerId == null || customerId.equals(event.order().customerId()));
+        }
+    }
+}
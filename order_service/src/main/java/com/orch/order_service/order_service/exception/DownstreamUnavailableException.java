@@ -0,0 +1,11 @@
+package com.orch.order_service.order_service.exception;
+
+/**
+ * Downstream Unavailable Exception
+ * Thrown when a downstream service times out or fails, so the order cannot be validated
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+    public DownstreamUnavailableException(String service, Throwable cause) {
+        super(String.format("%s is unavailable", service), cause);
+    }
+}
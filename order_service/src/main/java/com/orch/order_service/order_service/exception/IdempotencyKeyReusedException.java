@@ -0,0 +1,11 @@
+package com.orch.order_service.order_service.exception;
+
+/**
+ * Idempotency Key Reused Exception
+ * Thrown when an Idempotency-Key is sent again with a different request body
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used for a different request");
+    }
+}
@@ -0,0 +1,11 @@
+package com.orch.order_service.order_service.exception;
+
+/**
+ * Order Validation Exception
+ * Thrown when a downstream service rejects an order, e.g. unknown customer or insufficient stock
+ */
+public class OrderValidationException extends RuntimeException {
+    public OrderValidationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.orch.order_service.order_service.exception;
+
+/**
+ * Processing Queue Full Exception
+ * Thrown when the order-processing queue cannot take another order; mapped to 429
+ */
+public class ProcessingQueueFullException extends ServiceSaturatedException {
+    public ProcessingQueueFullException(String message) {
+        super(message);
+    }
+}
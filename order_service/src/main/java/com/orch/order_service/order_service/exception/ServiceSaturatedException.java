@@ -0,0 +1,11 @@
+package com.orch.order_service.order_service.exception;
+
+/**
+ * Service Saturated Exception
+ * Thrown when a bounded internal queue is full and the caller should retry later
+ */
+public class ServiceSaturatedException extends RuntimeException {
+    public ServiceSaturatedException(String message) {
+        super(message);
+    }
+}
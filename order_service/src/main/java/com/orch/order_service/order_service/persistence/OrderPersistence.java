@@ -0,0 +1,24 @@
+package com.orch.order_service.order_service.persistence;
+
+import com.orch.order_service.order_service.model.Order;
+
+import java.util.function.Supplier;
+
+/**
+ * Durability hook for writes to the in-memory order store
+ * The store stays the source of truth for reads; implementations only decide
+ * whether and how each written order reaches the database.
+ */
+public interface OrderPersistence {
+
+    /**
+     * Pure in-memory mode: writes are applied and never persisted
+     */
+    OrderPersistence NONE = write -> write.get();
+
+    /**
+     * Apply a store write and schedule the resulting order for persistence.
+     * The write returns the order it stored, or null if nothing was written.
+     */
+    Order write(Supplier<Order> write);
+}
@@ -0,0 +1,306 @@
+package com.orch.order_service.order_service.persistence;
+
+import com.orch.order_service.order_service.entity.OrderEntity;
+import com.orch.order_service.order_service.exception.ServiceSaturatedException;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.repository.OrderRepository;
+import com.orch.order_service.order_service.store.OrderStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind order persistence
+ * Writes only enqueue the order id; a background flusher collects ids into batches
+ * and stores the latest version of each order through OrderRepository, so requests
+ * never wait on a database round trip. The queue is bounded by a semaphore and
+ * writes are rejected with 503 once it is full.
+ * On startup the newest persisted orders are reloaded into the store, at most
+ * orders.persistence.restore.max-orders created within orders.persistence.restore.max-age;
+ * older orders stay in the database only. New ids always start above every persisted id.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.persistence.write-behind.enabled", havingValue = "true")
+public class WriteBehindOrderPersistence implements OrderPersistence {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindOrderPersistence.class);
+    private static final int RESTORE_PAGE_SIZE = 1000;
+
+    private final OrderStore orderStore;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int queueCapacity;
+    private final int flushSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final boolean restoreEnabled;
+    private final int restoreMaxOrders;
+    private final Duration restoreMaxAge;
+
+    // Permits bound the number of queued plus in-flight writes
+    private final Semaphore capacity;
+    private final LinkedBlockingDeque<Long> dirtyIds = new LinkedBlockingDeque<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public WriteBehindOrderPersistence(
+            OrderStore orderStore,
+            OrderRepository orderRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${orders.persistence.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${orders.persistence.write-behind.flush-size:500}") int flushSize,
+            @Value("${orders.persistence.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${orders.persistence.write-behind.offer-timeout:0ms}") Duration offerTimeout,
+            @Value("${orders.persistence.restore.enabled:true}") boolean restoreEnabled,
+            @Value("${orders.persistence.restore.max-orders:1000000}") int restoreMaxOrders,
+            @Value("${orders.persistence.restore.max-age:365d}") Duration restoreMaxAge) {
+        this.orderStore = orderStore;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.queueCapacity = queueCapacity;
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.restoreEnabled = restoreEnabled;
+        this.restoreMaxOrders = restoreMaxOrders;
+        this.restoreMaxAge = restoreMaxAge;
+        this.capacity = new Semaphore(queueCapacity);
+        this.flusher = Thread.ofPlatform()
+                .name("order-write-behind")
+                .daemon()
+                .unstarted(this::runFlusher);
+    }
+
+    /**
+     * Reload the newest persisted orders into the store before serving requests
+     */
+    @PostConstruct
+    void start() {
+        // Ids of orders left in the database must not be handed out again
+        var maxId = orderRepository.findMaxId();
+        if (maxId != null) {
+            orderStore.advanceIdsPast(maxId);
+        }
+        // max-orders of 0 or less restores nothing, like restore.enabled=false
+        if (restoreEnabled && restoreMaxOrders > 0) {
+            restore();
+        }
+        flusher.start();
+    }
+
+    private void restore() {
+        var since = LocalDateTime.now().minus(restoreMaxAge);
+        // Ids grow with creation time, so the newest orders are those above the id of the max-orders'th newest
+        var bound = orderRepository.findIdsCreatedSinceNewestFirst(since, PageRequest.of(restoreMaxOrders - 1, 1));
+        var lastId = bound.isEmpty() ? 0L : bound.getFirst() - 1;
+        var restored = 0L;
+        List<Order> page;
+        do {
+            page = orderRepository.findTop1000ByIdGreaterThanAndCreatedAtGreaterThanEqualOrderByIdAsc(lastId, since);
+            for (var order : page) {
+                orderStore.restore(order);
+                lastId = order.id();
+            }
+            restored += page.size();
+        } while (page.size() == RESTORE_PAGE_SIZE);
+        var persisted = orderRepository.count();
+        if (restored == persisted) {
+            logger.info("Restored {} orders from the database", restored);
+            verifyRestore();
+        } else {
+            logger.info("Restored the newest {} of {} persisted orders (at most {}, created since {})",
+                    restored, persisted, restoreMaxOrders, since);
+        }
+    }
+
+    /**
+     * Cross-check the restored store against one grouped count in the database
+     */
+    private void verifyRestore() {
+        var aggregates = orderStore.aggregates();
+        for (var totals : orderRepository.summarizeByStatus()) {
+            var restored = aggregates.count(totals.status());
+            if (restored != totals.orderCount()) {
+                logger.warn("Restored {} {} orders but the database holds {}",
+                        restored, totals.status(), totals.orderCount());
+            }
+        }
+    }
+
+    @Override
+    public Order write(Supplier<Order> write) {
+        acquire();
+        Order order;
+        try {
+            order = write.get();
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        if (order == null) {
+            capacity.release();
+        } else {
+            dirtyIds.add(order.id());
+        }
+        return order;
+    }
+
+    /**
+     * Number of writes queued or being flushed
+     */
+    public int pendingWrites() {
+        return queueCapacity - capacity.availablePermits();
+    }
+
+    /**
+     * Persist everything queued so far on the calling thread, stopping at the first failed batch
+     */
+    public boolean flush() {
+        while (!dirtyIds.isEmpty()) {
+            var batch = new ArrayList<Long>(flushSize);
+            dirtyIds.drainTo(batch, flushSize);
+            if (!flushBatch(batch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(flushInterval.toMillis() * 10);
+        if (!flush()) {
+            logger.error("Shutting down with {} unpersisted order writes", dirtyIds.size());
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!capacity.tryAcquire(offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new ServiceSaturatedException("Order write queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceSaturatedException("Interrupted waiting for order write queue");
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                var batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    flushBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Wait for the first id, then keep collecting until the batch is full
+     * or the flush interval has passed since that first id arrived
+     */
+    private List<Long> collectBatch() throws InterruptedException {
+        var batch = new ArrayList<Long>(flushSize);
+        var first = dirtyIds.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        var deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < flushSize) {
+            dirtyIds.drainTo(batch, flushSize - batch.size());
+            var remaining = deadline - System.nanoTime();
+            if (batch.size() >= flushSize || remaining <= 0) {
+                break;
+            }
+            var next = dirtyIds.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * Store the current version of each order in one transaction.
+     * Existing rows are loaded with a single IN query and updated through dirty
+     * checking; new rows are inserted without a select. Both go out as JDBC batches.
+     */
+    private boolean flushBatch(List<Long> batch) {
+        flushLock.lock();
+        try {
+            // Several updates to one order collapse into a single write of its latest version
+            var ids = new LinkedHashSet<>(batch);
+            transactionTemplate.executeWithoutResult(status -> {
+                var existing = orderRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+                var newEntities = new ArrayList<OrderEntity>();
+                for (var id : ids) {
+                    orderStore.get(id).ifPresent(order -> {
+                        var entity = existing.get(id);
+                        if (entity == null) {
+                            entity = new OrderEntity();
+                            newEntities.add(entity);
+                        }
+                        copy(order, entity);
+                    });
+                }
+                orderRepository.saveAll(newEntities);
+            });
+            capacity.release(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Failed to persist {} orders, will retry", batch.size(), e);
+            // Keep the permits and put the ids back at the head of the queue
+            for (var i = batch.size() - 1; i >= 0; i--) {
+                dirtyIds.addFirst(batch.get(i));
+            }
+            pause();
+            return false;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(flushInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void copy(Order order, OrderEntity entity) {
+        entity.setId(order.id());
+        entity.setCustomerId(order.customerId());
+        entity.setTotalAmount(order.totalAmount());
+        entity.setStatus(order.status());
+        entity.setCreatedAt(order.createdAt());
+    }
+}
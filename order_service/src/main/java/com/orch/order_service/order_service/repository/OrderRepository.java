@@ -1,31 +1,78 @@
 package com.orch.order_service.order_service.repository;
 
 import com.orch.order_service.order_service.entity.OrderEntity;
+import com.orch.order_service.order_service.model.Order;
 import com.orch.order_service.order_service.model.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Order Repository
  * Demonstrates Spring Data JPA repository pattern
+ * Read queries select straight into Order records or aggregate rows, so no entities
+ * are hydrated or tracked by the persistence context just to be read or counted.
+ * Statistics and lists are served from the in-memory order store, which the table
+ * lags under write-behind; the aggregate query checks the startup restore.
  */
 @Repository
 public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
-    
+
     /**
      * Find orders by customer ID
      */
-    List<OrderEntity> findByCustomerId(String customerId);
-    
+    List<Order> findByCustomerId(String customerId);
+
     /**
      * Find orders by status
      */
-    List<OrderEntity> findByStatus(OrderStatus status);
-    
+    List<Order> findByStatus(OrderStatus status);
+
+    /**
+     * Find orders by customer and status
+     */
+    List<Order> findByCustomerIdAndStatus(String customerId, OrderStatus status);
+
+    /**
+     * Keyset page of orders created since a time, by ascending id, used to reload the order store on startup
+     */
+    List<Order> findTop1000ByIdGreaterThanAndCreatedAtGreaterThanEqualOrderByIdAsc(Long id, LocalDateTime since);
+
+    /**
+     * Ids of orders created since a time, newest first; a one-row page at offset n - 1 is the n'th newest
+     */
+    @Query("select o.id from OrderEntity o where o.createdAt >= :since order by o.id desc")
+    List<Long> findIdsCreatedSinceNewestFirst(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * Highest persisted order id, null when there are none
+     */
+    @Query("select max(o.id) from OrderEntity o")
+    Long findMaxId();
+
+    /**
+     * Order count, total and average amount per status, computed by the database
+     */
+    @Query("""
+            select new com.orch.order_service.order_service.repository.OrderRepository$StatusTotals(
+                o.status, count(o), sum(o.totalAmount), avg(o.totalAmount))
+            from OrderEntity o
+            group by o.status""")
+    List<StatusTotals> summarizeByStatus();
+
     /**
-     * Find completed orders by customer
+     * One row of a per-status aggregate query
      */
-    List<OrderEntity> findByCustomerIdAndStatus(String customerId, OrderStatus status);
+    record StatusTotals(
+            OrderStatus status,
+            Long orderCount,
+            BigDecimal totalAmount,
+            Double averageAmount
+    ) {}
 }
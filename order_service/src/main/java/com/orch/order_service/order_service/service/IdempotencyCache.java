@@ -0,0 +1,88 @@
+package com.orch.order_service.order_service.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orch.order_service.order_service.exception.IdempotencyKeyReusedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency cache for request handlers
+ * The first request with a key runs and its response is kept for the retention
+ * window; a repeat with the same key and request gets that response back instead
+ * of running again. A repeat that arrives while the first is still running waits
+ * for it. Failed executions are not kept, so the client can retry them.
+ * Keys are kept for the retention window after they are written. The cache is also
+ * bounded by size; once full, Caffeine evicts by recent use and frequency (W-TinyLFU),
+ * so a key may go before it is oldest.
+ */
+@Component
+public class IdempotencyCache {
+
+    /**
+     * Header set on responses replayed from the cache
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final AsyncCache<String, Execution> executions;
+
+    public IdempotencyCache(
+            @Value("${orders.idempotency.retention:24h}") Duration retention,
+            @Value("${orders.idempotency.max-keys:100000}") long maxKeys,
+            MeterRegistry meterRegistry) {
+        this.executions = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(retention)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, executions, "idempotency-keys");
+    }
+
+    /**
+     * Run the call once per key. The request identifies what the key was first used for;
+     * reusing the key for a different request fails with IdempotencyKeyReusedException.
+     */
+    public <T> Mono<ResponseEntity<T>> execute(String key, Object request, Supplier<Mono<ResponseEntity<T>>> call) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        return Mono.defer(() -> {
+            var first = new boolean[1];
+            // suppressCancel: one cancelled caller must not cancel the execution shared with others
+            return Mono.fromFuture(executions.get(key, (k, executor) -> {
+                        first[0] = true;
+                        return call.get()
+                                .map(response -> new Execution(request, response))
+                                .toFuture();
+                    }), true)
+                    .map(execution -> {
+                        if (!execution.request().equals(request)) {
+                            throw new IdempotencyKeyReusedException(key);
+                        }
+                        @SuppressWarnings("unchecked")
+                        var response = (ResponseEntity<T>) execution.response();
+                        return first[0] ? response : replayed(response);
+                    });
+        });
+    }
+
+    private static <T> ResponseEntity<T> replayed(ResponseEntity<T> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private record Execution(
+            Object request,
+            ResponseEntity<?> response
+    ) {}
+}
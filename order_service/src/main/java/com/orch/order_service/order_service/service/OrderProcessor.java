@@ -0,0 +1,225 @@
+package com.orch.order_service.order_service.service;
+
+import com.orch.order_service.order_service.exception.DownstreamUnavailableException;
+import com.orch.order_service.order_service.exception.OrderValidationException;
+import com.orch.order_service.order_service.exception.ProcessingQueueFullException;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous order processing
+ * Accepted orders are created PENDING and queued; up to concurrency of them are
+ * validated at once and moved PENDING -> PROCESSING -> COMPLETED, or CANCELLED when
+ * the customer is unknown or stock is short. Running checks side by side lets the
+ * inventory client coalesce them into bulk requests. The queue is bounded by a
+ * semaphore and new orders are rejected with 429 once it is full.
+ * The queue lives in memory only, so orders still PENDING when the application is
+ * ready (restored from the database after a restart) are queued again.
+ */
+@Service
+public class OrderProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderProcessor.class);
+    private static final List<String> OUTCOMES = List.of(
+            OrderStatus.COMPLETED.name(), OrderStatus.CANCELLED.name(), "SKIPPED", "ERROR");
+
+    private final OrderService orderService;
+    private final OrderValidator orderValidator;
+    private final boolean enabled;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    // Permits bound the number of queued plus in-flight orders
+    private final Semaphore capacity;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private final Map<String, Counter> outcomes = new HashMap<>();
+    private final Timer processingTime;
+    private final Disposable worker;
+    private FluxSink<Task> tasks;
+
+    public OrderProcessor(
+            OrderService orderService,
+            OrderValidator orderValidator,
+            @Value("${orders.processing.enabled:true}") boolean enabled,
+            @Value("${orders.processing.queue-capacity:10000}") int queueCapacity,
+            @Value("${orders.processing.concurrency:64}") int concurrency,
+            @Value("${orders.processing.max-retries:3}") int maxRetries,
+            @Value("${orders.processing.retry-backoff:200ms}") Duration retryBackoff,
+            MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.orderValidator = orderValidator;
+        this.enabled = enabled;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.capacity = new Semaphore(queueCapacity);
+        this.rejected = Counter.builder("orders.processing.rejected")
+                .description("Orders rejected because the processing queue was full")
+                .register(meterRegistry);
+        this.processingTime = Timer.builder("orders.processing.duration")
+                .description("Time from an order being queued to it leaving PROCESSING")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (var outcome : OUTCOMES) {
+            outcomes.put(outcome, Counter.builder("orders.processing.outcomes")
+                    .description("Processed orders by outcome")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("orders.processing.queued", queued, AtomicInteger::get)
+                .description("Orders waiting to be processed")
+                .register(meterRegistry);
+        Gauge.builder("orders.processing.in.flight", inFlight, AtomicInteger::get)
+                .description("Orders being processed")
+                .register(meterRegistry);
+        // FluxSink is serialized, so orders can be submitted from any thread
+        this.worker = Flux.<Task>create(sink -> this.tasks = sink)
+                .flatMap(this::process, concurrency)
+                .subscribe();
+    }
+
+    /**
+     * Whether orders are processed here; when false they are validated before creation
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Create a PENDING order and queue it for processing.
+     * Nothing is created when the queue is full.
+     */
+    public Order submit(String customerId, BigDecimal totalAmount, String productId, Integer quantity) {
+        if (!capacity.tryAcquire()) {
+            rejected.increment();
+            throw new ProcessingQueueFullException("Order processing queue is full");
+        }
+        Order order;
+        try {
+            order = orderService.createOrder(customerId, totalAmount);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        queued.incrementAndGet();
+        tasks.next(new Task(order.id(), customerId, productId, quantity, System.nanoTime()));
+        return order;
+    }
+
+    /**
+     * Queue every PENDING order again, e.g. those restored from the database after a restart.
+     * Only the customer is checked for them, as the requested product and quantity are not
+     * persisted. Waits for queue capacity rather than rejecting, so requests arriving
+     * meanwhile get 429 until the backlog drains.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeuePending() {
+        if (!enabled) {
+            return;
+        }
+        var pendingOrders = orderService.getOrdersByStatus(OrderStatus.PENDING);
+        for (var order : pendingOrders) {
+            capacity.acquireUninterruptibly();
+            queued.incrementAndGet();
+            tasks.next(new Task(order.id(), order.customerId(), null, null, System.nanoTime()));
+        }
+        if (!pendingOrders.isEmpty()) {
+            logger.info("Queued {} pending orders for processing", pendingOrders.size());
+        }
+    }
+
+    /**
+     * Orders queued or being processed
+     */
+    public int pending() {
+        return queued.get() + inFlight.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.dispose();
+    }
+
+    private Mono<Void> process(Task task) {
+        queued.decrementAndGet();
+        inFlight.incrementAndGet();
+        return Mono.defer(() -> {
+                    // An order cancelled while it was queued is left alone
+                    if (orderService.transitionStatus(task.orderId(), OrderStatus.PENDING, OrderStatus.PROCESSING)
+                            .isEmpty()) {
+                        return Mono.just("SKIPPED");
+                    }
+                    return orderValidator.validate(task.customerId(), task.productId(), task.quantity())
+                            .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                                    .filter(DownstreamUnavailableException.class::isInstance)
+                                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                            .thenReturn(OrderStatus.COMPLETED)
+                            .onErrorResume(OrderValidationException.class, e -> {
+                                logger.info("Order {} cancelled: {}", task.orderId(), e.getMessage());
+                                return Mono.just(OrderStatus.CANCELLED);
+                            })
+                            .onErrorResume(DownstreamUnavailableException.class, e -> {
+                                logger.warn("Order {} cancelled, could not be validated: {}",
+                                        task.orderId(), e.getMessage());
+                                return Mono.just(OrderStatus.CANCELLED);
+                            })
+                            .map(status -> complete(task, status));
+                })
+                .onErrorResume(e -> {
+                    logger.error("Order {} processing failed", task.orderId(), e);
+                    return Mono.just("ERROR");
+                })
+                .doOnNext(outcome -> finish(task, outcome))
+                .then();
+    }
+
+    /**
+     * Leave PROCESSING, unless the order was changed by someone else meanwhile
+     */
+    private String complete(Task task, OrderStatus status) {
+        return orderService.transitionStatus(task.orderId(), OrderStatus.PROCESSING, status).isPresent()
+                ? status.name()
+                : "SKIPPED";
+    }
+
+    private void finish(Task task, String outcome) {
+        inFlight.decrementAndGet();
+        capacity.release();
+        processingTime.record(System.nanoTime() - task.queuedAt(), TimeUnit.NANOSECONDS);
+        outcomes.get(outcome).increment();
+    }
+
+    private record Task(
+            Long orderId,
+            String customerId,
+            String productId,
+            Integer quantity,
+            long queuedAt
+    ) {}
+}
@@ -2,11 +2,25 @@ package com.orch.order_service.order_service.service;
 
 import com.orch.order_service.order_service.model.Order;
 import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.persistence.OrderPersistence;
+import com.orch.order_service.order_service.store.OrderAggregates;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.orch.order_service.order_service.store.OrderStore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -14,116 +28,308 @@ import java.util.stream.Collectors;
  * - var keyword for local variable type inference
  * - Streams API for functional-style operations
  * - Optionals for null-safe operations
+ * Every operation is timed as orders.operations, tagged by operation and outcome.
  */
 @Service
 public class OrderService {
 
-    // In-memory storage for demonstration
-    private final Map<Long, Order> orders = new HashMap<>();
-    private Long nextId = 1L;
+    // Concurrent in-memory storage, safe for use from the event loops
+    private final OrderStore orders;
+    private final OrderPersistence persistence;
+    private final MeterRegistry meterRegistry;
+    // Registered once here; looking a meter up by name and tags on every call is costly
+    private final EnumMap<Operation, OperationTimers> timers = new EnumMap<>(Operation.class);
+
+    public OrderService(OrderStore orders) {
+        this(orders, OrderPersistence.NONE);
+    }
+
+    public OrderService(OrderStore orders, OrderPersistence persistence) {
+        this(orders, persistence, new SimpleMeterRegistry());
+    }
+
+    public OrderService(OrderStore orders, OrderPersistence persistence, MeterRegistry meterRegistry) {
+        this.orders = orders;
+        this.persistence = persistence;
+        this.meterRegistry = meterRegistry;
+        for (var operation : Operation.values()) {
+            timers.put(operation, new OperationTimers(
+                    timer(operation, "SUCCESS", "none"), timer(operation, "NOT_FOUND", "none")));
+        }
+    }
+
+    @Autowired
+    public OrderService(OrderStore orders, ObjectProvider<OrderPersistence> persistence, MeterRegistry meterRegistry) {
+        this(orders, persistence.getIfAvailable(() -> OrderPersistence.NONE), meterRegistry);
+    }
 
     /**
      * Create a new order - demonstrates var keyword
      */
     public Order createOrder(String customerId, BigDecimal totalAmount) {
-        // Using 'var' for type inference (Java 10+)
-        var id = nextId++;
-        var now = LocalDateTime.now();
-        var order = new Order(id, customerId, totalAmount, OrderStatus.PENDING, now);
-        
-        orders.put(id, order);
-        return order;
+        return timed(Operation.CREATE, () -> {
+            // Using 'var' for type inference (Java 10+)
+            var id = orders.nextId();
+            var now = LocalDateTime.now();
+            var order = new Order(id, customerId, totalAmount, OrderStatus.PENDING, now);
+
+            return persistence.write(() -> {
+                orders.insert(order);
+                return order;
+            });
+        });
     }
 
     /**
      * Find order by ID - demonstrates Optional
      */
     public Optional<Order> findById(Long id) {
-        return Optional.ofNullable(orders.get(id));
+        return timed(Operation.FIND, () -> orders.get(id));
     }
 
     /**
      * Get all orders - demonstrates streams and collectors
      */
     public List<Order> getAllOrders() {
-        return orders.values().stream()
+        return timed(Operation.LIST, () -> orders.values().stream()
                 .sorted(Comparator.comparing(Order::createdAt).reversed())
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
-     * Get orders by status - demonstrates streams with filtering
+     * Get orders by status, oldest first, from the status index
      */
     public List<Order> getOrdersByStatus(OrderStatus status) {
-        return orders.values().stream()
-                .filter(order -> order.status() == status)
-                .collect(Collectors.toList());
+        return timed(Operation.LIST_BY_STATUS, () -> orders.findByStatus(status));
     }
 
     /**
-     * Calculate total revenue - demonstrates streams with reduce
+     * Calculate total revenue - O(1) read of the running aggregate
      */
     public BigDecimal calculateTotalRevenue() {
-        return orders.values().stream()
-                .filter(Order::isCompleted)
-                .map(Order::totalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return timed(Operation.REVENUE, () -> orders.aggregates().revenue());
     }
 
     /**
-     * Get orders for customer - demonstrates streams with multiple operations
+     * Get orders for customer, most recent first, from the customer index
      */
     public List<Order> getCustomerOrders(String customerId) {
-        return orders.values().stream()
-                .filter(order -> order.customerId().equals(customerId))
+        return timed(Operation.LIST_BY_CUSTOMER, () -> orders.findByCustomer(customerId).stream()
                 .sorted(Comparator.comparing(Order::createdAt).reversed())
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
-     * Update order status - demonstrates Optional with map
+     * Update order status - applied atomically so racing updates are never lost
      */
     public Optional<Order> updateOrderStatus(Long orderId, OrderStatus newStatus) {
-        return findById(orderId)
-                .map(existingOrder -> {
-                    // Create new order with updated status (records are immutable)
-                    var updatedOrder = new Order(
-                            existingOrder.id(),
-                            existingOrder.customerId(),
-                            existingOrder.totalAmount(),
-                            newStatus,
-                            existingOrder.createdAt()
-                    );
-                    orders.put(orderId, updatedOrder);
-                    return updatedOrder;
-                });
+        return timed(Operation.UPDATE_STATUS, () -> Optional.ofNullable(persistence.write(() -> orders.update(orderId,
+                existingOrder -> withStatus(existingOrder, newStatus)).orElse(null))));
+    }
+
+    /**
+     * Move an order from one status to another only if it is still in the expected status,
+     * so a change made by someone else in the meantime is never overwritten.
+     * Returns the updated order, or empty when the order is missing or has moved on.
+     */
+    public Optional<Order> transitionStatus(Long orderId, OrderStatus expected, OrderStatus newStatus) {
+        return timed(Operation.TRANSITION_STATUS, () -> {
+            var applied = new boolean[1];
+            var order = persistence.write(() -> orders.update(orderId, existingOrder -> {
+                if (existingOrder.status() != expected) {
+                    return existingOrder;
+                }
+                applied[0] = true;
+                return withStatus(existingOrder, newStatus);
+            }).orElse(null));
+            return applied[0] ? Optional.of(order) : Optional.<Order>empty();
+        });
     }
 
     /**
-     * Get order statistics - demonstrates complex stream operations
+     * Get order statistics - O(1) read of the running aggregates
      */
     public OrderStatistics getStatistics() {
-        var allOrders = orders.values();
-        var totalOrders = allOrders.size();
-        
-        var completedOrders = allOrders.stream()
-                .filter(Order::isCompleted)
-                .count();
-        
-        var averageOrderValue = allOrders.stream()
-                .map(Order::totalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(totalOrders == 0 ? 1 : totalOrders), 2, BigDecimal.ROUND_HALF_UP);
-        
-        return new OrderStatistics(totalOrders, completedOrders, averageOrderValue);
+        return timed(Operation.STATISTICS, () -> {
+            var aggregates = orders.aggregates();
+            return new OrderStatistics(
+                    aggregates.totalOrders(),
+                    aggregates.count(OrderStatus.COMPLETED),
+                    averageOrderValue(aggregates.totalAmount(), aggregates.totalOrders()),
+                    aggregates.countsByStatus(),
+                    null
+            );
+        });
+    }
+
+    /**
+     * Get statistics for orders created in [from, to), per bucket and in total.
+     * Read from the time-bucket rollups, so the cost grows with the number of buckets, not orders;
+     * a columnar store scans its columns instead.
+     */
+    public OrderStatistics getStatistics(LocalDateTime from, LocalDateTime to, Granularity granularity) {
+        return timed(Operation.STATISTICS_RANGE, () -> {
+            var buckets = new ArrayList<PeriodStatistics>();
+            var totalOrders = 0L;
+            var totalAmount = BigDecimal.ZERO;
+            var ordersByStatus = new EnumMap<OrderStatus, Long>(OrderStatus.class);
+            for (var status : OrderStatus.values()) {
+                ordersByStatus.put(status, 0L);
+            }
+            for (var bucket : rollup(from, to, granularity).entrySet()) {
+                var totals = bucket.getValue();
+                var bucketOrders = totals.totalOrders();
+                if (bucketOrders == 0) {
+                    continue;
+                }
+                var bucketAmount = totals.totalAmount();
+                var bucketStatus = totals.countsByStatus();
+                buckets.add(new PeriodStatistics(
+                        bucket.getKey(),
+                        bucketOrders,
+                        bucketStatus.get(OrderStatus.COMPLETED),
+                        averageOrderValue(bucketAmount, bucketOrders),
+                        totals.revenue(),
+                        bucketStatus
+                ));
+                totalOrders += bucketOrders;
+                totalAmount = totalAmount.add(bucketAmount);
+                bucketStatus.forEach((status, count) -> ordersByStatus.merge(status, count, Long::sum));
+            }
+            return new OrderStatistics(
+                    totalOrders,
+                    ordersByStatus.get(OrderStatus.COMPLETED),
+                    averageOrderValue(totalAmount, totalOrders),
+                    ordersByStatus,
+                    buckets
+            );
+        });
+    }
+
+    /**
+     * Revenue of orders created in [from, to), per bucket and in total, from the time-bucket rollups
+     * or a scan of a columnar store
+     */
+    public RevenueReport calculateRevenue(LocalDateTime from, LocalDateTime to, Granularity granularity) {
+        return timed(Operation.REVENUE_RANGE, () -> {
+            var buckets = new ArrayList<PeriodRevenue>();
+            var total = BigDecimal.ZERO;
+            for (var bucket : rollup(from, to, granularity).entrySet()) {
+                var revenue = bucket.getValue().revenue();
+                if (revenue.signum() == 0) {
+                    continue;
+                }
+                buckets.add(new PeriodRevenue(bucket.getKey(), revenue));
+                total = total.add(revenue);
+            }
+            return new RevenueReport(total, buckets);
+        });
+    }
+
+    private Map<LocalDateTime, OrderAggregates.Totals> rollup(LocalDateTime from, LocalDateTime to,
+                                                             Granularity granularity) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return orders.rollup(granularity, from, to);
+    }
+
+    private static BigDecimal averageOrderValue(BigDecimal totalAmount, long totalOrders) {
+        return totalAmount.divide(BigDecimal.valueOf(totalOrders == 0 ? 1 : totalOrders), 2, RoundingMode.HALF_UP);
+    }
+
+    // Create new order with updated status (records are immutable)
+    private static Order withStatus(Order order, OrderStatus status) {
+        return new Order(
+                order.id(),
+                order.customerId(),
+                order.totalAmount(),
+                status,
+                order.createdAt()
+        );
+    }
+
+    /**
+     * Time an operation; an empty Optional is recorded as NOT_FOUND and an exception as ERROR
+     */
+    private <T> T timed(Operation operation, Supplier<T> call) {
+        var operationTimers = timers.get(operation);
+        var start = System.nanoTime();
+        try {
+            var result = call.get();
+            var timer = result instanceof Optional<?> optional && optional.isEmpty()
+                    ? operationTimers.notFound() : operationTimers.success();
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            operationTimers.errors()
+                    .computeIfAbsent(e.getClass(), type -> timer(operation, "ERROR", type.getSimpleName()))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(Operation operation, String outcome, String exception) {
+        return Timer.builder("orders.operations")
+                .description("Order service operations")
+                .tag("operation", operation.tag)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private enum Operation {
+        CREATE, FIND, LIST, LIST_BY_STATUS, REVENUE, LIST_BY_CUSTOMER, UPDATE_STATUS, TRANSITION_STATUS,
+        STATISTICS, STATISTICS_RANGE, REVENUE_RANGE;
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Timers of one operation; error timers are added per exception type as they occur
+     */
+    private record OperationTimers(Timer success, Timer notFound, Map<Class<?>, Timer> errors) {
+
+        OperationTimers(Timer success, Timer notFound) {
+            this(success, notFound, new ConcurrentHashMap<>());
+        }
     }
 
     /**
-     * Record for order statistics
+     * Record for order statistics; buckets are only present for a time-range query
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record OrderStatistics(
-            int totalOrders,
+            long totalOrders,
+            long completedOrders,
+            BigDecimal averageOrderValue,
+            Map<OrderStatus, Long> ordersByStatus,
+            List<PeriodStatistics> buckets
+    ) {}
+
+    /**
+     * Statistics for the orders created in one time bucket
+     */
+    public record PeriodStatistics(
+            LocalDateTime start,
+            long totalOrders,
             long completedOrders,
-            BigDecimal averageOrderValue
+            BigDecimal averageOrderValue,
+            BigDecimal revenue,
+            Map<OrderStatus, Long> ordersByStatus
+    ) {}
+
+    /**
+     * Revenue over a time range, with the non-zero buckets it is made of
+     */
+    public record RevenueReport(
+            BigDecimal totalRevenue,
+            List<PeriodRevenue> buckets
+    ) {}
+
+    public record PeriodRevenue(
+            LocalDateTime start,
+            BigDecimal revenue
     ) {}
 }
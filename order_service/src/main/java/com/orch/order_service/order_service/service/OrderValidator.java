@@ -0,0 +1,49 @@
+package com.orch.order_service.order_service.service;
+
+import com.orch.order_service.order_service.client.CustomerClient;
+import com.orch.order_service.order_service.client.InventoryClient;
+import com.orch.order_service.order_service.exception.DownstreamUnavailableException;
+import com.orch.order_service.order_service.exception.OrderValidationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Order validation against customer-service and inventory-service
+ * Both checks are issued at once and combined with Mono.zip, so validation
+ * takes roughly as long as the slower call and never blocks an event-loop thread.
+ */
+@Service
+public class OrderValidator {
+
+    private final CustomerClient customerClient;
+    private final InventoryClient inventoryClient;
+
+    public OrderValidator(CustomerClient customerClient, InventoryClient inventoryClient) {
+        this.customerClient = customerClient;
+        this.inventoryClient = inventoryClient;
+    }
+
+    /**
+     * Validate an order; completes empty when valid, errors otherwise.
+     * The inventory check is skipped when no product is given.
+     */
+    public Mono<Void> validate(String customerId, String productId, Integer quantity) {
+        var customerCheck = customerClient.customerExists(customerId)
+                .onErrorMap(e -> new DownstreamUnavailableException("customer-service", e));
+        var inventoryCheck = productId == null
+                ? Mono.just(true)
+                : inventoryClient.isProductAvailable(productId, quantity == null ? 1 : quantity)
+                        .onErrorMap(e -> new DownstreamUnavailableException("inventory-service", e));
+
+        return Mono.zip(customerCheck, inventoryCheck)
+                .flatMap(checks -> {
+                    if (!checks.getT1()) {
+                        return Mono.error(new OrderValidationException("Customer not found: " + customerId));
+                    }
+                    if (!checks.getT2()) {
+                        return Mono.error(new OrderValidationException("Insufficient stock for product: " + productId));
+                    }
+                    return Mono.empty();
+                });
+    }
+}
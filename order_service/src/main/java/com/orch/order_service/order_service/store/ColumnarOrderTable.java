@@ -0,0 +1,423 @@
+package com.orch.order_service.order_service.store;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.orch.order_service.order_service.store.OrderAggregates.Totals;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Orders kept as rows of primitive columns instead of one object graph each
+ * The order id is the row number, so no per-order map entry is needed. Amounts are
+ * long cents plus their original scale, creation times are epoch nanoseconds (UTC
+ * arithmetic, as LocalDateTime has no zone), statuses a byte and customer ids an int
+ * code into a dictionary. That is 26 bytes per order, against 150 or more for an
+ * Order record with its BigDecimal and LocalDateTime.
+ * Orders that do not fit the columns (sub-cent amounts, times outside 1677-2262, ids
+ * out of range) are kept whole in a side map. Rows are read without locking through
+ * a per-row version: odd while a write is in progress, and re-checked after the read.
+ */
+final class ColumnarOrderTable implements OrderTable {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    // Keeps the chunk directory an int-indexed array
+    private static final long MAX_ROW_ID = Integer.MAX_VALUE;
+    private static final int LOCK_STRIPES = 64;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    // Status column value of an empty row; otherwise the status ordinal + 1
+    private static final byte EMPTY = 0;
+    private static final VarHandle VERSION = MethodHandles.arrayElementVarHandle(int[].class);
+    // Rollup scans run here rather than on the common pool, which request threads and
+    // other parallel streams share; the caller still blocks until its scan finishes
+    private static final ForkJoinPool SCAN_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Object growLock = new Object();
+    private volatile Chunk[] chunks = new Chunk[0];
+    private final ConcurrentHashMap<Long, Order> irregular = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final ConcurrentHashMap<String, Integer> customerCodes = new ConcurrentHashMap<>();
+    private volatile String[] customerIds = new String[1024];
+    private int customerCount;
+
+    ColumnarOrderTable() {
+        for (var i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Order get(long id) {
+        var chunk = chunk(id);
+        if (chunk != null) {
+            var order = read(chunk, (int) (id & CHUNK_MASK), id);
+            if (order != null) {
+                return order;
+            }
+        }
+        return irregular.get(id);
+    }
+
+    @Override
+    public void insert(Order order, Runnable whileLocked) {
+        var id = order.id();
+        synchronized (lock(id)) {
+            if (get(id) != null) {
+                throw new IllegalStateException("Duplicate order id: " + id);
+            }
+            whileLocked.run();
+            store(id, order);
+            size.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Order update(long id, UnaryOperator<Order> update) {
+        synchronized (lock(id)) {
+            var existing = get(id);
+            if (existing == null) {
+                return null;
+            }
+            var updated = Objects.requireNonNull(update.apply(existing));
+            if (updated != existing) {
+                store(id, updated);
+            }
+            return updated;
+        }
+    }
+
+    private Object lock(long id) {
+        return locks[(int) (id & (LOCK_STRIPES - 1))];
+    }
+
+    // Called with the id's lock held
+    private void store(long id, Order order) {
+        if (fitsColumns(order)) {
+            write(id, order);
+            irregular.remove(id);
+        } else {
+            // Put first, so a reader that misses the row still finds the order
+            irregular.put(id, order);
+            clear(id);
+        }
+    }
+
+    @Override
+    public Collection<Order> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Order> iterator() {
+                return new RowIterator();
+            }
+
+            @Override
+            public int size() {
+                return ColumnarOrderTable.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Totals per bucket of orders created in [from, to), with the same bucket bounds as
+     * OrderAggregates.rollup, computed by a parallel scan over the columns.
+     * Weakly consistent: each order is counted as it was at some point during the scan.
+     * Blocks until the scan finishes, so callers on an event loop must move off it first.
+     */
+    NavigableMap<LocalDateTime, Totals> rollup(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        var unit = granularity.nanos();
+        var firstBucket = from == null ? Long.MIN_VALUE : Math.floorDiv(saturatedNanos(from), unit);
+        var endBucket = to == null ? Long.MAX_VALUE : Math.ceilDiv(saturatedNanos(to), unit);
+        var snapshot = chunks;
+        var sums = SCAN_POOL.submit(() -> IntStream.range(0, snapshot.length).parallel()
+                .filter(index -> snapshot[index] != null)
+                .mapToObj(index -> scan(snapshot[index], unit, firstBucket, endBucket))
+                .reduce(BucketSums::merge)
+                .orElseGet(BucketSums::new)).join();
+
+        var buckets = new TreeMap<LocalDateTime, Totals>();
+        sums.buckets.forEach((bucket, columns) -> {
+            var totals = new Totals();
+            for (var status : STATUSES) {
+                var orders = columns[status.ordinal()];
+                if (orders != 0) {
+                    totals.add(status, orders, columns[STATUSES.length + status.ordinal()]);
+                }
+            }
+            buckets.put(fromNanos(bucket * unit), totals);
+        });
+        var fromBucket = from == null ? null : granularity.bucketStart(from);
+        for (var order : irregular.values()) {
+            var start = granularity.bucketStart(order.createdAt());
+            if ((fromBucket == null || !start.isBefore(fromBucket)) && (to == null || start.isBefore(to))) {
+                buckets.computeIfAbsent(start, key -> new Totals()).add(order);
+            }
+        }
+        return Collections.unmodifiableNavigableMap(buckets);
+    }
+
+    private BucketSums scan(Chunk chunk, long unit, long firstBucket, long endBucket) {
+        var sums = new BucketSums();
+        // Rows are mostly in creation order, so consecutive rows usually share a bucket
+        var currentBucket = 0L;
+        long[] current = null;
+        for (var row = 0; row < CHUNK_SIZE; row++) {
+            int version;
+            byte status;
+            long cents;
+            long nanos;
+            do {
+                version = (int) VERSION.getAcquire(chunk.versions, row);
+                status = chunk.statuses[row];
+                cents = chunk.cents[row];
+                nanos = chunk.nanos[row];
+                VarHandle.acquireFence();
+            } while ((version & 1) != 0 || version != (int) VERSION.getOpaque(chunk.versions, row));
+            if (status == EMPTY) {
+                continue;
+            }
+            var bucket = Math.floorDiv(nanos, unit);
+            if (bucket < firstBucket || bucket >= endBucket) {
+                continue;
+            }
+            if (current == null || bucket != currentBucket) {
+                currentBucket = bucket;
+                current = sums.buckets.computeIfAbsent(bucket, key -> new long[STATUSES.length * 2]);
+            }
+            current[status - 1]++;
+            current[STATUSES.length + status - 1] += cents;
+        }
+        return sums;
+    }
+
+    private Order read(Chunk chunk, int row, long id) {
+        while (true) {
+            var version = (int) VERSION.getAcquire(chunk.versions, row);
+            var status = chunk.statuses[row];
+            var cents = chunk.cents[row];
+            var scale = chunk.scales[row];
+            var nanos = chunk.nanos[row];
+            var customer = chunk.customers[row];
+            VarHandle.acquireFence();
+            if ((version & 1) == 0 && version == (int) VERSION.getOpaque(chunk.versions, row)) {
+                if (status == EMPTY) {
+                    return null;
+                }
+                var amount = BigDecimal.valueOf(cents, 2);
+                return new Order(id, customerIds[customer],
+                        scale == 2 ? amount : amount.setScale(scale), STATUSES[status - 1], fromNanos(nanos));
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Write a row; callers hold the order's lock, so there is one writer per row
+     */
+    private void write(long id, Order order) {
+        var chunk = chunk(id);
+        if (chunk == null) {
+            chunk = addChunk(id);
+        }
+        var row = (int) (id & CHUNK_MASK);
+        var version = chunk.versions[row];
+        VERSION.setOpaque(chunk.versions, row, version + 1);
+        VarHandle.storeStoreFence();
+        chunk.cents[row] = order.totalAmount().movePointRight(2).longValueExact();
+        chunk.scales[row] = (byte) order.totalAmount().scale();
+        chunk.nanos[row] = toNanos(order.createdAt());
+        chunk.customers[row] = customerCode(order.customerId());
+        chunk.statuses[row] = (byte) (order.status().ordinal() + 1);
+        VERSION.setRelease(chunk.versions, row, version + 2);
+    }
+
+    private void clear(long id) {
+        var chunk = chunk(id);
+        if (chunk == null) {
+            return;
+        }
+        var row = (int) (id & CHUNK_MASK);
+        var version = chunk.versions[row];
+        VERSION.setOpaque(chunk.versions, row, version + 1);
+        VarHandle.storeStoreFence();
+        chunk.statuses[row] = EMPTY;
+        VERSION.setRelease(chunk.versions, row, version + 2);
+    }
+
+    private Chunk chunk(long id) {
+        if (id <= 0 || id > MAX_ROW_ID) {
+            return null;
+        }
+        var snapshot = chunks;
+        var index = (int) (id >>> CHUNK_BITS);
+        return index < snapshot.length ? snapshot[index] : null;
+    }
+
+    private Chunk addChunk(long id) {
+        synchronized (growLock) {
+            var index = (int) (id >>> CHUNK_BITS);
+            var grown = chunks;
+            if (index >= grown.length) {
+                grown = Arrays.copyOf(grown, Math.max(index + 1, grown.length * 2));
+            } else if (grown[index] != null) {
+                return grown[index];
+            } else {
+                grown = grown.clone();
+            }
+            var chunk = new Chunk();
+            grown[index] = chunk;
+            chunks = grown;
+            return chunk;
+        }
+    }
+
+    private int customerCode(String customerId) {
+        return customerCodes.computeIfAbsent(customerId, this::addCustomer);
+    }
+
+    private synchronized int addCustomer(String customerId) {
+        var ids = customerIds;
+        if (customerCount == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[customerCount] = customerId;
+        customerIds = ids;
+        return customerCount++;
+    }
+
+    private static boolean fitsColumns(Order order) {
+        if (order.id() <= 0 || order.id() > MAX_ROW_ID) {
+            return false;
+        }
+        var amount = order.totalAmount();
+        if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE) {
+            return false;
+        }
+        try {
+            amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            // Sub-cent precision or out of long range
+            return false;
+        }
+        try {
+            toNanos(order.createdAt());
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    private static long toNanos(LocalDateTime time) {
+        return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L), time.getNano());
+    }
+
+    // A range bound beyond the columns' range covers all of them
+    private static long saturatedNanos(LocalDateTime time) {
+        try {
+            return toNanos(time);
+        } catch (ArithmeticException e) {
+            return time.getYear() < 1970 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    private static final class Chunk {
+        final int[] versions = new int[CHUNK_SIZE];
+        final byte[] statuses = new byte[CHUNK_SIZE];
+        final long[] cents = new long[CHUNK_SIZE];
+        final byte[] scales = new byte[CHUNK_SIZE];
+        final long[] nanos = new long[CHUNK_SIZE];
+        final int[] customers = new int[CHUNK_SIZE];
+    }
+
+    /**
+     * Per-bucket order counts by status, then summed cents by status
+     */
+    private static final class BucketSums {
+        final Map<Long, long[]> buckets = new HashMap<>();
+
+        BucketSums merge(BucketSums other) {
+            other.buckets.forEach((bucket, columns) -> buckets.merge(bucket, columns, (mine, theirs) -> {
+                for (var i = 0; i < mine.length; i++) {
+                    mine[i] += theirs[i];
+                }
+                return mine;
+            }));
+            return this;
+        }
+    }
+
+    /**
+     * Walks the rows chunk by chunk, then the orders kept whole
+     */
+    private final class RowIterator implements Iterator<Order> {
+        private final Chunk[] snapshot = chunks;
+        private final Iterator<Order> irregularOrders = irregular.values().iterator();
+        private long id = 1;
+        private Order next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                var index = (int) (id >>> CHUNK_BITS);
+                if (index >= snapshot.length) {
+                    if (!irregularOrders.hasNext()) {
+                        return false;
+                    }
+                    next = irregularOrders.next();
+                    continue;
+                }
+                var chunk = snapshot[index];
+                if (chunk == null) {
+                    id = (long) (index + 1) << CHUNK_BITS;
+                    continue;
+                }
+                next = read(chunk, (int) (id & CHUNK_MASK), id);
+                id++;
+            }
+            return true;
+        }
+
+        @Override
+        public Order next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var order = next;
+            next = null;
+            return order;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.orch.order_service.order_service.store;
+
+/**
+ * Set of positive longs in a single open-addressing long array
+ * No boxing and no per-entry objects: about 11 to 21 bytes per value, against
+ * roughly 50 for a boxed Long in a concurrent key set. Linear probing with
+ * backward-shift deletion, so removals leave no tombstones. Not thread-safe.
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 8;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] table = new long[MIN_CAPACITY];
+    private int shift = 64 - Integer.numberOfTrailingZeros(MIN_CAPACITY);
+    private int size;
+
+    /**
+     * Add a value; returns false if it was already present
+     */
+    boolean add(long value) {
+        if (value <= EMPTY) {
+            throw new IllegalArgumentException("Only positive values can be stored: " + value);
+        }
+        var mask = table.length - 1;
+        var slot = slot(value);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        // Grow past a load factor of 0.75
+        if (++size > table.length - (table.length >> 2)) {
+            resize(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Remove a value; returns false if it was not present
+     */
+    boolean remove(long value) {
+        var mask = table.length - 1;
+        var slot = slot(value);
+        while (table[slot] != value) {
+            if (table[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // Pull later entries of the probe run back into the gap
+        var gap = slot;
+        var next = (gap + 1) & mask;
+        while (table[next] != EMPTY) {
+            var home = slot(table[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[gap] = EMPTY;
+        // Shrink below a load factor of 0.125, so a drained set gives its memory back
+        if (--size < table.length >> 3 && table.length > MIN_CAPACITY) {
+            resize(table.length >> 1);
+        }
+        return true;
+    }
+
+    boolean contains(long value) {
+        var mask = table.length - 1;
+        var slot = slot(value);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copy the values into target from offset; returns the offset after the last one
+     */
+    int copyInto(long[] target, int offset) {
+        for (var value : table) {
+            if (value != EMPTY) {
+                target[offset++] = value;
+            }
+        }
+        return offset;
+    }
+
+    long[] toArray() {
+        var values = new long[size];
+        copyInto(values, 0);
+        return values;
+    }
+
+    // Fibonacci hashing spreads sequential ids across the table
+    private int slot(long value) {
+        return (int) ((value * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void resize(int capacity) {
+        var old = table;
+        table = new long[capacity];
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        var mask = capacity - 1;
+        for (var value : old) {
+            if (value != EMPTY) {
+                var slot = slot(value);
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+}
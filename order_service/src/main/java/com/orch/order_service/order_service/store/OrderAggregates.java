@@ -0,0 +1,305 @@
+package com.orch.order_service.order_service.store;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running order aggregates maintained on every write
+ * Counts use LongAdder and amounts are summed in exact cents, so updates from many
+ * threads do not contend and reads are O(1) regardless of how many orders exist.
+ * The same totals are also rolled up per minute, hour and day of order creation,
+ * so a time range is answered by reading one bucket per period. A store that
+ * answers time ranges by scanning its columns turns the rollups off.
+ */
+public class OrderAggregates {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    // Minute buckets older than this, relative to the newest one, are discarded
+    private static final Duration MINUTE_RETENTION = Duration.ofDays(7);
+
+    private final Totals allTime = new Totals();
+    private final Map<Granularity, ConcurrentSkipListMap<LocalDateTime, Totals>> rollups =
+            new EnumMap<>(Granularity.class);
+
+    public OrderAggregates() {
+        this(true);
+    }
+
+    public OrderAggregates(boolean keepRollups) {
+        if (keepRollups) {
+            for (var granularity : Granularity.values()) {
+                rollups.put(granularity, new ConcurrentSkipListMap<>());
+            }
+        }
+    }
+
+    /**
+     * Record a newly created order
+     */
+    public void onCreated(Order order) {
+        allTime.add(order);
+        for (var granularity : rollups.keySet()) {
+            var bucket = bucket(granularity, order.createdAt(), true);
+            if (bucket != null) {
+                bucket.add(order);
+            }
+        }
+    }
+
+    /**
+     * Record an update; moving in or out of COMPLETED (e.g. to REFUNDED) adjusts revenue
+     */
+    public void onUpdated(Order previous, Order current) {
+        allTime.update(previous, current);
+        for (var granularity : rollups.keySet()) {
+            var previousBucket = bucket(granularity, previous.createdAt(), false);
+            if (granularity.bucketStart(previous.createdAt()).equals(granularity.bucketStart(current.createdAt()))) {
+                if (previousBucket != null) {
+                    previousBucket.update(previous, current);
+                }
+                continue;
+            }
+            if (previousBucket != null) {
+                previousBucket.remove(previous);
+            }
+            var currentBucket = bucket(granularity, current.createdAt(), true);
+            if (currentBucket != null) {
+                currentBucket.add(current);
+            }
+        }
+    }
+
+    public long totalOrders() {
+        return allTime.totalOrders();
+    }
+
+    public long count(OrderStatus status) {
+        return allTime.count(status);
+    }
+
+    public Map<OrderStatus, Long> countsByStatus() {
+        return allTime.countsByStatus();
+    }
+
+    public BigDecimal totalAmount() {
+        return allTime.totalAmount();
+    }
+
+    /**
+     * Sum of all orders currently COMPLETED
+     */
+    public BigDecimal revenue() {
+        return allTime.revenue();
+    }
+
+    /**
+     * Non-empty buckets for orders created in [from, to), keyed by bucket start.
+     * Either bound may be null for an open range. Bounds inside a bucket include the
+     * whole bucket; minute buckets are only kept for the most recent week.
+     */
+    public NavigableMap<LocalDateTime, Totals> rollup(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, Totals> buckets = rollups.get(granularity);
+        if (buckets == null) {
+            throw new IllegalStateException("Time-bucket rollups are not kept");
+        }
+        if (from != null) {
+            buckets = buckets.tailMap(granularity.bucketStart(from), true);
+        }
+        if (to != null) {
+            buckets = buckets.headMap(to, false);
+        }
+        return Collections.unmodifiableNavigableMap(buckets);
+    }
+
+    /**
+     * Find the bucket an order created at the given time belongs to.
+     * Missing buckets are only created when asked; an update of an order whose minute
+     * bucket has already been discarded must not bring it back half-filled.
+     */
+    private Totals bucket(Granularity granularity, LocalDateTime createdAt, boolean create) {
+        var buckets = rollups.get(granularity);
+        var start = granularity.bucketStart(createdAt);
+        var bucket = buckets.get(start);
+        if (bucket != null || !create) {
+            return bucket;
+        }
+        if (granularity == Granularity.MINUTE && !buckets.isEmpty()
+                && start.isBefore(buckets.lastKey().minus(MINUTE_RETENTION))) {
+            return null;
+        }
+        var created = new Totals();
+        bucket = buckets.putIfAbsent(start, created);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (granularity == Granularity.MINUTE) {
+            buckets.headMap(buckets.lastKey().minus(MINUTE_RETENTION)).clear();
+        }
+        return created;
+    }
+
+    /**
+     * Rollup bucket sizes
+     */
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime bucketStart(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        long nanos() {
+            return unit.getDuration().toNanos();
+        }
+
+        /**
+         * Parse minute, hour or day, in any case
+         */
+        public static Granularity parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown granularity: " + value + " (expected minute, hour or day)");
+            }
+        }
+    }
+
+    /**
+     * Counts and sums for one set of orders: all orders, or those created in one bucket
+     */
+    public static final class Totals {
+
+        private final LongAdder totalOrders = new LongAdder();
+        private final LongAdder[] statusCounts = new LongAdder[STATUSES.length];
+        private final AmountAdder totalAmount = new AmountAdder();
+        private final AmountAdder revenue = new AmountAdder();
+
+        Totals() {
+            for (var i = 0; i < statusCounts.length; i++) {
+                statusCounts[i] = new LongAdder();
+            }
+        }
+
+        void add(Order order) {
+            totalOrders.increment();
+            totalAmount.add(order.totalAmount());
+            statusCounts[order.status().ordinal()].increment();
+            if (order.isCompleted()) {
+                revenue.add(order.totalAmount());
+            }
+        }
+
+        /**
+         * Add orders of one status whose amounts are already summed in cents
+         */
+        void add(OrderStatus status, long orders, long cents) {
+            totalOrders.add(orders);
+            statusCounts[status.ordinal()].add(orders);
+            totalAmount.addCents(cents);
+            if (status == OrderStatus.COMPLETED) {
+                revenue.addCents(cents);
+            }
+        }
+
+        private void remove(Order order) {
+            totalOrders.decrement();
+            totalAmount.add(order.totalAmount().negate());
+            statusCounts[order.status().ordinal()].decrement();
+            if (order.isCompleted()) {
+                revenue.add(order.totalAmount().negate());
+            }
+        }
+
+        private void update(Order previous, Order current) {
+            if (previous.totalAmount().compareTo(current.totalAmount()) != 0) {
+                totalAmount.add(current.totalAmount().subtract(previous.totalAmount()));
+            }
+            if (previous.status() != current.status()) {
+                statusCounts[previous.status().ordinal()].decrement();
+                statusCounts[current.status().ordinal()].increment();
+            }
+            if (previous.isCompleted()) {
+                revenue.add(previous.totalAmount().negate());
+            }
+            if (current.isCompleted()) {
+                revenue.add(current.totalAmount());
+            }
+        }
+
+        public long totalOrders() {
+            return totalOrders.sum();
+        }
+
+        public long count(OrderStatus status) {
+            return statusCounts[status.ordinal()].sum();
+        }
+
+        public Map<OrderStatus, Long> countsByStatus() {
+            var counts = new EnumMap<OrderStatus, Long>(OrderStatus.class);
+            for (var status : STATUSES) {
+                counts.put(status, count(status));
+            }
+            return counts;
+        }
+
+        public BigDecimal totalAmount() {
+            return totalAmount.sum();
+        }
+
+        /**
+         * Sum of the orders currently COMPLETED
+         */
+        public BigDecimal revenue() {
+            return revenue.sum();
+        }
+    }
+
+    /**
+     * Exact BigDecimal accumulator.
+     * Amounts with at most two decimal places are added as cents to a LongAdder;
+     * anything finer falls back to a CAS-updated BigDecimal.
+     */
+    private static final class AmountAdder {
+
+        private final LongAdder cents = new LongAdder();
+        private final AtomicReference<BigDecimal> remainder = new AtomicReference<>(BigDecimal.ZERO);
+
+        void add(BigDecimal amount) {
+            try {
+                cents.add(amount.movePointRight(2).longValueExact());
+            } catch (ArithmeticException e) {
+                // Sub-cent precision or out of long range
+                remainder.accumulateAndGet(amount, BigDecimal::add);
+            }
+        }
+
+        void addCents(long amount) {
+            cents.add(amount);
+        }
+
+        BigDecimal sum() {
+            return BigDecimal.valueOf(cents.sum(), 2).add(remainder.get());
+        }
+    }
+}
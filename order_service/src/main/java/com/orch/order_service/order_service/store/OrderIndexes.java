@@ -0,0 +1,106 @@
+package com.orch.order_service.order_service.store;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary indexes from customerId and from status to order ids
+ * Ids are held in primitive long arrays instead of boxed Long collections:
+ * 8 bytes per order (plus growth slack) per customer list and about 11 to 21 bytes
+ * per order in the status sets. Each status set is split into stripes by id,
+ * each with its own lock, so writers to one status rarely wait on each other.
+ * Readers get a copy of the ids; callers re-check the orders they load, since an
+ * order may change status between reading the index and loading it.
+ */
+public class OrderIndexes {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final int STATUS_STRIPES = 16;
+
+    private final ConcurrentHashMap<String, PackedLongList> byCustomer = new ConcurrentHashMap<>();
+    private final LongHashSet[][] byStatus = new LongHashSet[STATUSES.length][STATUS_STRIPES];
+
+    public OrderIndexes() {
+        for (var stripes : byStatus) {
+            for (var i = 0; i < stripes.length; i++) {
+                stripes[i] = new LongHashSet();
+            }
+        }
+    }
+
+    /**
+     * Index a newly created order
+     */
+    public void onCreated(Order order) {
+        // compute holds the customer's bin lock, which makes it the list's single writer
+        byCustomer.compute(order.customerId(), (customerId, ids) -> {
+            var list = ids == null ? new PackedLongList() : ids;
+            list.add(order.id());
+            return list;
+        });
+        add(order.status(), order.id());
+    }
+
+    /**
+     * Move an updated order between status sets; its customer never changes
+     */
+    public void onUpdated(Order previous, Order current) {
+        if (previous.status() == current.status()) {
+            return;
+        }
+        remove(previous.status(), previous.id());
+        add(current.status(), current.id());
+    }
+
+    /**
+     * Ids of a customer's orders, in the order they were stored
+     */
+    public long[] customerOrderIds(String customerId) {
+        var ids = byCustomer.get(customerId);
+        return ids == null ? new long[0] : ids.toArray();
+    }
+
+    /**
+     * Ids of the orders in a status, in ascending order
+     */
+    public long[] statusOrderIds(OrderStatus status) {
+        var stripes = byStatus[status.ordinal()];
+        var parts = new long[stripes.length][];
+        var total = 0;
+        for (var i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                parts[i] = stripes[i].toArray();
+            }
+            total += parts[i].length;
+        }
+        var ids = new long[total];
+        var offset = 0;
+        for (var part : parts) {
+            System.arraycopy(part, 0, ids, offset, part.length);
+            offset += part.length;
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private void add(OrderStatus status, long id) {
+        var stripe = stripe(status, id);
+        synchronized (stripe) {
+            stripe.add(id);
+        }
+    }
+
+    private void remove(OrderStatus status, long id) {
+        var stripe = stripe(status, id);
+        synchronized (stripe) {
+            stripe.remove(id);
+        }
+    }
+
+    private LongHashSet stripe(OrderStatus status, long id) {
+        return byStatus[status.ordinal()][(int) (id & (STATUS_STRIPES - 1))];
+    }
+}
@@ -0,0 +1,207 @@
+package com.orch.order_service.order_service.store;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.orch.order_service.order_service.store.OrderAggregates.Totals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent in-memory order store
+ * Ids come from a lock-free counter and orders live in a ConcurrentHashMap,
+ * so reads never block and writes only contend on the same hash bin.
+ * Customer and status indexes are kept in step with every write, so those
+ * lookups touch only the matching orders.
+ * With orders.store.columnar.enabled the orders are kept in primitive columns
+ * instead of records, and time ranges are answered by scanning those columns
+ * rather than from per-write rollups.
+ */
+@Component
+public class OrderStore {
+
+    private final OrderTable orders;
+    private final AtomicLong lastId = new AtomicLong();
+    private final OrderAggregates aggregates;
+    private final OrderIndexes indexes = new OrderIndexes();
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public OrderStore() {
+        this(1024);
+    }
+
+    public OrderStore(int initialCapacity) {
+        this(new OrderTable.Rows(initialCapacity));
+    }
+
+    @Autowired
+    public OrderStore(@Value("${orders.store.columnar.enabled:false}") boolean columnar) {
+        this(columnar ? new ColumnarOrderTable() : new OrderTable.Rows(1024));
+    }
+
+    private OrderStore(OrderTable orders) {
+        this.orders = orders;
+        this.aggregates = new OrderAggregates(!(orders instanceof ColumnarOrderTable));
+    }
+
+    /**
+     * A store keeping orders in primitive columns
+     */
+    public static OrderStore columnar() {
+        return new OrderStore(true);
+    }
+
+    /**
+     * Allocate the next order id without locking
+     */
+    public long nextId() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Store a new order; ids are unique so this never overwrites
+     */
+    public void insert(Order order) {
+        // Listeners run inside the entry lock so they see an order's changes in the order they were applied
+        orders.insert(order, () -> {
+            aggregates.onCreated(order);
+            indexes.onCreated(order);
+            notifyListeners(null, order);
+        });
+    }
+
+    /**
+     * Reload a previously persisted order, keeping the id counter ahead of it.
+     * Restoring is not a change, so listeners are not told.
+     */
+    public void restore(Order order) {
+        orders.insert(order, () -> {
+            aggregates.onCreated(order);
+            indexes.onCreated(order);
+        });
+        lastId.accumulateAndGet(order.id(), Math::max);
+    }
+
+    /**
+     * Make sure ids handed out from now on are greater than the given one
+     */
+    public void advanceIdsPast(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    public Optional<Order> get(Long id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    /**
+     * Atomically replace an existing order.
+     * The update function runs at most once per call while the entry is locked,
+     * so concurrent updates to the same order are applied one after another
+     * and the aggregates always see the true previous version.
+     * Returning the existing order unchanged is a no-op.
+     */
+    public Optional<Order> update(Long id, UnaryOperator<Order> update) {
+        return Optional.ofNullable(orders.update(id, existing -> {
+            var updated = update.apply(existing);
+            if (updated == existing) {
+                return existing;
+            }
+            if (!updated.customerId().equals(existing.customerId())) {
+                throw new IllegalArgumentException("The customer of order " + id + " cannot change");
+            }
+            aggregates.onUpdated(existing, updated);
+            indexes.onUpdated(existing, updated);
+            notifyListeners(existing, updated);
+            return updated;
+        }));
+    }
+
+    /**
+     * Be told of every insert and update. The listener runs while the order's entry
+     * is locked, so it must be quick and must not touch the store.
+     */
+    public void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyListeners(Order previous, Order current) {
+        for (var listener : listeners) {
+            listener.onChange(previous, current);
+        }
+    }
+
+    /**
+     * A customer's orders, found through the customer index instead of a scan
+     */
+    public List<Order> findByCustomer(String customerId) {
+        return load(indexes.customerOrderIds(customerId), order -> true);
+    }
+
+    /**
+     * Orders currently in a status, in id order, found through the status index
+     */
+    public List<Order> findByStatus(OrderStatus status) {
+        // An order may have moved on since its id was read from the index
+        return load(indexes.statusOrderIds(status), order -> order.status() == status);
+    }
+
+    private List<Order> load(long[] ids, Predicate<Order> stillMatches) {
+        var found = new ArrayList<Order>(ids.length);
+        for (var id : ids) {
+            var order = orders.get(id);
+            if (order != null && stillMatches.test(order)) {
+                found.add(order);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Weakly consistent live view of all orders
+     */
+    public Collection<Order> values() {
+        return Collections.unmodifiableCollection(orders.values());
+    }
+
+    /**
+     * Totals per bucket of orders created in [from, to); see OrderAggregates.rollup.
+     * Read from the rollups, or scanned from the columns of a columnar store.
+     */
+    public NavigableMap<LocalDateTime, Totals> rollup(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return orders instanceof ColumnarOrderTable columns
+                ? columns.rollup(granularity, from, to)
+                : aggregates.rollup(granularity, from, to);
+    }
+
+    /**
+     * Running totals kept in step with every insert and update
+     */
+    public OrderAggregates aggregates() {
+        return aggregates;
+    }
+
+    public int size() {
+        return orders.size();
+    }
+
+    /**
+     * Receives each change; previous is null for a newly inserted order
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        void onChange(Order previous, Order current);
+    }
+}
@@ -0,0 +1,84 @@
+package com.orch.order_service.order_service.store;
+
+import com.orch.order_service.order_service.model.Order;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Where OrderStore keeps the orders themselves
+ * Either one Order record per map entry, or one row per order in primitive columns.
+ */
+interface OrderTable {
+
+    Order get(long id);
+
+    /**
+     * Add an order under an id not yet in the table. whileLocked runs with the id locked,
+     * before the order is visible; if it throws, nothing is added.
+     *
+     * @throws IllegalStateException if the id is taken
+     */
+    void insert(Order order, Runnable whileLocked);
+
+    /**
+     * Replace an existing order with the result of the function, which runs at most once
+     * per call while the order is locked and must not return null. Returning the current
+     * order leaves the table unchanged.
+     *
+     * @return the order now stored, or null if there is no order with this id
+     */
+    Order update(long id, UnaryOperator<Order> update);
+
+    /**
+     * Weakly consistent live view of all orders
+     */
+    Collection<Order> values();
+
+    int size();
+
+    /**
+     * One Order record per ConcurrentHashMap entry
+     */
+    final class Rows implements OrderTable {
+
+        private final ConcurrentHashMap<Long, Order> orders;
+
+        Rows(int initialCapacity) {
+            this.orders = new ConcurrentHashMap<>(initialCapacity);
+        }
+
+        @Override
+        public Order get(long id) {
+            return orders.get(id);
+        }
+
+        @Override
+        public void insert(Order order, Runnable whileLocked) {
+            orders.compute(order.id(), (key, existing) -> {
+                if (existing != null) {
+                    throw new IllegalStateException("Duplicate order id: " + key);
+                }
+                whileLocked.run();
+                return order;
+            });
+        }
+
+        @Override
+        public Order update(long id, UnaryOperator<Order> update) {
+            return orders.computeIfPresent(id, (key, existing) -> Objects.requireNonNull(update.apply(existing)));
+        }
+
+        @Override
+        public Collection<Order> values() {
+            return orders.values();
+        }
+
+        @Override
+        public int size() {
+            return orders.size();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.orch.order_service.order_service.store;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of longs in one packed array
+ * One writer at a time (the caller holds a lock); readers need no lock.
+ * A reader that sees a size also sees every value below it, because each grown
+ * array is published before the size that needs it.
+ */
+final class PackedLongList {
+
+    private volatile long[] values = new long[2];
+    private volatile int size;
+
+    void add(long value) {
+        var array = values;
+        var count = size;
+        if (count == array.length) {
+            array = Arrays.copyOf(array, count + (count >> 1) + 1);
+            values = array;
+        }
+        array[count] = value;
+        size = count + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        var count = size;
+        return Arrays.copyOf(values, count);
+    }
+}
@@ -0,0 +1,7 @@
+-- Let order-service assign orders.id itself instead of the database (PostgreSQL).
+-- Ids come from the in-memory order store, which starts above the highest persisted id,
+-- so the column no longer needs an identity or serial default. Run once against an
+-- existing database before starting the version with write-behind persistence;
+-- running it again changes nothing.
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE orders ALTER COLUMN id DROP DEFAULT;
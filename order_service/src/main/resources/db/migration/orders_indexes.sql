@@ -0,0 +1,7 @@
+-- Indexes for order lookups by customer (optionally narrowed by status and creation time)
+-- and by status (PostgreSQL). The prod profile validates the schema and never creates them,
+-- so run this once against an existing database; running it again changes nothing.
+-- CONCURRENTLY keeps the table writable while the indexes build, so run the file with
+-- psql -f (autocommit), not inside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_status_created ON orders (customer_id, status, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status ON orders (status);
@@ -0,0 +1,167 @@
+package com.orch.order_service.order_service.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit tests for the order analytics sketches
+ * Each sketch is checked against the exact answer within its documented error bound.
+ */
+@DisplayName("Order Analytics Tests")
+class OrderAnalyticsTest {
+
+    @Test
+    @DisplayName("Should estimate quantiles within the relative accuracy")
+    void testQuantiles() {
+        // Arrange
+        var random = new Random(1);
+        var sketch = new QuantileSketch(0.01, 0.01, 1e12);
+        var values = new double[100_000];
+        for (var i = 0; i < values.length; i++) {
+            // Log-normal order values around 50
+            values[i] = Math.exp(Math.log(50) + random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act
+        var estimates = sketch.quantiles(0.0, 0.5, 0.95, 0.99, 1.0);
+
+        // Assert
+        var quantiles = new double[] {0.0, 0.5, 0.95, 0.99, 1.0};
+        for (var i = 0; i < quantiles.length; i++) {
+            var exact = values[(int) (quantiles[i] * (values.length - 1))];
+            assertTrue(Math.abs(estimates[i] - exact) <= 0.01 * exact, quantiles[i] + ": " + estimates[i] + " vs " + exact);
+        }
+        assertNull(new QuantileSketch(0.01, 0.01, 1e12).quantiles(0.5));
+    }
+
+    @Test
+    @DisplayName("Should estimate distinct counts within three standard errors")
+    void testDistinctCount() {
+        // Arrange
+        var small = new HyperLogLog(14);
+        var large = new HyperLogLog(14);
+
+        // Act
+        for (var i = 0; i < 1_000_000; i++) {
+            // Each customer is seen several times
+            large.add("CUST" + (i % 250_000));
+            if (i < 1_000) {
+                small.add("CUST" + (i % 100));
+            }
+        }
+
+        // Assert
+        assertEquals(100, small.estimate());
+        var error = Math.abs(large.estimate() - 250_000) / 250_000.0;
+        assertTrue(error <= 3 * large.standardError(), "error " + error);
+    }
+
+    @Test
+    @DisplayName("Should find the heaviest keys with bounded overestimates")
+    void testTopSpenders() {
+        // Arrange
+        var random = new Random(3);
+        var sketch = new SpaceSaving(100);
+        var exact = new HashMap<String, Long>();
+        var total = 0L;
+        for (var i = 0; i < 200_000; i++) {
+            // Zipf-like: low customer numbers order far more often
+            var customer = "CUST" + (int) Math.floor(Math.pow(10_000, random.nextDouble()));
+            var cents = 100L + random.nextInt(10_000);
+            sketch.add(customer, cents);
+            exact.merge(customer, cents, Long::sum);
+            total += cents;
+        }
+
+        // Act
+        var top = sketch.top(10);
+
+        // Assert
+        var expected = exact.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        assertEquals(expected, top.stream().map(SpaceSaving.Entry::key).toList());
+        for (var entry : sketch.top(100)) {
+            var trueWeight = exact.get(entry.key());
+            assertTrue(entry.weight() - entry.error() <= trueWeight && trueWeight <= entry.weight(), entry.key());
+            assertTrue(entry.error() <= total / 100);
+        }
+    }
+
+    @Test
+    @DisplayName("Should record each order created in the store once")
+    void testRecordsCreatedOrders() {
+        // Arrange
+        var store = new OrderStore();
+        var analytics = new OrderAnalytics(store, 0.01, 14, 10, 1_000, new SimpleMeterRegistry());
+        var empty = analytics.snapshot(10);
+
+        // Act
+        for (var i = 0; i < 100; i++) {
+            var order = new Order(store.nextId(), "CUST" + (i % 4), BigDecimal.valueOf(i + 1), OrderStatus.PENDING,
+                    LocalDateTime.now());
+            store.insert(order);
+            store.update(order.id(), existing -> new Order(existing.id(), existing.customerId(),
+                    existing.totalAmount(), OrderStatus.COMPLETED, existing.createdAt()));
+        }
+        var snapshot = analytics.snapshot(2);
+
+        // Assert
+        assertEquals(0, empty.orders());
+        assertNull(empty.orderValue().p50());
+        assertEquals(100, snapshot.orders());
+        assertEquals(4, snapshot.distinctCustomers().estimate());
+        // 1 to 100: the true median is 50 and the true p99 is 99
+        assertTrue(snapshot.orderValue().p50().subtract(new BigDecimal("50")).abs().compareTo(new BigDecimal("0.5")) <= 0);
+        assertTrue(snapshot.orderValue().p99().subtract(new BigDecimal("99")).abs().compareTo(new BigDecimal("0.99")) <= 0);
+        // CUST3 ordered 4 + 8 + ... + 100
+        assertEquals("CUST3", snapshot.topCustomers().get(0).customerId());
+        assertEquals(new BigDecimal("1300.00"), snapshot.topCustomers().get(0).spend());
+        assertEquals(2, snapshot.topCustomers().size());
+        assertThrows(IllegalArgumentException.class, () -> analytics.snapshot(11));
+        analytics.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should drop top-customer spend beyond the queue capacity and count it")
+    void testFullQueueDropsSpend() {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        var store = new OrderStore();
+        // A worker that never runs, so only the snapshot drains the queue
+        var analytics = new OrderAnalytics(store, 0.01, 14, 10, 5, meterRegistry, Schedulers.fromExecutor(task -> {}));
+
+        // Act
+        for (var i = 0; i < 8; i++) {
+            store.insert(new Order(store.nextId(), "CUST1", BigDecimal.ONE, OrderStatus.PENDING, LocalDateTime.now()));
+        }
+        var snapshot = analytics.snapshot(1);
+
+        // Assert
+        assertEquals(8, snapshot.orders());
+        assertEquals(new BigDecimal("5.00"), snapshot.topCustomers().get(0).spend());
+        assertEquals(3, meterRegistry.get("orders.analytics.spend.dropped").counter().count());
+    }
+}
@@ -0,0 +1,94 @@
+package com.orch.order_service.order_service.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Unit tests for the CustomerClient cache against a stub customer-service
+ */
+@DisplayName("Customer Client Tests")
+class CustomerClientTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer stubServer;
+    private CustomerClient customerClient;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        // Stub customer-service: only CUST001 exists; responses are slow so concurrent misses overlap
+        stubServer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/api/customers/{customerId}", (request, response) -> {
+                    requests.incrementAndGet();
+                    var delay = Mono.delay(Duration.ofMillis(100));
+                    if (!"CUST001".equals(request.param("customerId"))) {
+                        return delay.then(response.status(404).send());
+                    }
+                    return delay.then(response.header("Content-Type", "application/json")
+                            .sendString(Mono.just(
+                                    "{\"id\":1,\"customerId\":\"CUST001\",\"name\":\"Jane\",\"email\":\"jane@example.com\"}"))
+                            .then());
+                }))
+                .bindNow();
+        var webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + stubServer.port())
+                .build();
+        customerClient = new CustomerClient(webClient, Duration.ofSeconds(5), 100,
+                Duration.ofMinutes(5), Duration.ofSeconds(30), meterRegistry);
+    }
+
+    @AfterEach
+    @SuppressWarnings("unused")
+    void tearDown() {
+        stubServer.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent misses into one request and serve hits from cache")
+    void testConcurrentMissesAreCollapsed() {
+        // Act
+        var results = Flux.range(0, 20)
+                .flatMap(i -> customerClient.getCustomer("CUST001"))
+                .collectList()
+                .block();
+        var cached = customerClient.getCustomer("CUST001").block();
+
+        // Assert
+        assertEquals(20, results.size());
+        assertEquals("Jane", cached.name());
+        assertEquals(1, requests.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(20.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should cache unknown customers")
+    void testUnknownCustomerIsNegativelyCached() {
+        // Act
+        var first = customerClient.customerExists("CUST404").block();
+        var second = customerClient.customerExists("CUST404").block();
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        assertEquals(1, requests.get());
+        assertTrue(customerClient.customerExists("CUST001").block());
+    }
+}
@@ -0,0 +1,162 @@
+package com.orch.order_service.order_service.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.orch.order_service.order_service.client.InventoryClient.AvailabilityRequest;
+import com.orch.order_service.order_service.client.InventoryClient.AvailabilityResponse;
+import com.orch.order_service.order_service.config.DownstreamClientProperties;
+import com.orch.order_service.order_service.config.WebClientConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Unit tests for InventoryClient micro-batching against a stub inventory-service
+ * The stub reads and writes JSON or Smile, following Content-Type and Accept.
+ */
+@DisplayName("Inventory Client Tests")
+class InventoryClientTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final AtomicInteger bulkRequests = new AtomicInteger();
+    private final Queue<String> contentTypes = new ConcurrentLinkedQueue<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer stubServer;
+    private InventoryClient inventoryClient;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        // Stub bulk endpoint: every product is available except OUT-OF-STOCK
+        stubServer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/inventory/availability", (request, response) -> {
+                    bulkRequests.incrementAndGet();
+                    var contentType = request.requestHeaders().get("Content-Type");
+                    var smileResponse = String.valueOf(request.requestHeaders().get("Accept")).startsWith(SMILE);
+                    contentTypes.add(contentType);
+                    var body = request.receive().aggregate().asByteArray().map(bytes -> {
+                        try {
+                            var requests = mapper(contentType.startsWith(SMILE))
+                                    .readValue(bytes, new TypeReference<List<AvailabilityRequest>>() {});
+                            var responses = requests.stream()
+                                    .map(r -> new AvailabilityResponse(r.productId(), r.quantity(),
+                                            !r.productId().equals("OUT-OF-STOCK")))
+                                    .toList();
+                            return mapper(smileResponse).writeValueAsBytes(responses);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+                    return response.header("Content-Type", smileResponse ? SMILE : "application/json")
+                            .sendByteArray(body);
+                }))
+                .bindNow();
+        var webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + stubServer.port())
+                .build();
+        inventoryClient = new InventoryClient(webClient, Duration.ofSeconds(5), true, Duration.ofMillis(100), 100, 8,
+                meterRegistry);
+    }
+
+    @AfterEach
+    @SuppressWarnings("unused")
+    void tearDown() {
+        inventoryClient.shutdown();
+        stubServer.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent checks into one bulk request")
+    void testConcurrentChecksAreBatched() {
+        // Act
+        var results = Flux.range(0, 50)
+                .flatMap(i -> inventoryClient.isProductAvailable("PROD" + (i % 10), 1))
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(50, results.size());
+        assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        assertEquals(1, bulkRequests.get());
+        assertEquals(1, meterRegistry.get("downstream.calls")
+                .tags("operation", "check_availability_bulk", "outcome", "SUCCESS").timer().count());
+        assertEquals(50.0, meterRegistry.get("downstream.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should answer each check from its own bulk result")
+    void testBatchedResultsAreMatchedToRequests() {
+        // Act
+        var results = Mono.zip(
+                inventoryClient.isProductAvailable("PROD001", 1),
+                inventoryClient.isProductAvailable("OUT-OF-STOCK", 1),
+                inventoryClient.isProductAvailable("PROD002", 3)
+        ).block();
+
+        // Assert
+        assertTrue(results.getT1());
+        assertFalse(results.getT2());
+        assertTrue(results.getT3());
+        assertEquals(1.0, meterRegistry.get("inventory.availability.rejections").counter().count());
+        assertEquals(List.of("application/json"), List.copyOf(contentTypes));
+    }
+
+    @Test
+    @DisplayName("Should exchange Smile bodies through the configured client")
+    void testConfiguredClientUsesSmile() {
+        // Arrange
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "clients.inventory.base-url", "http://localhost:" + stubServer.port())))
+                .bindOrCreate("clients", DownstreamClientProperties.class);
+        var connectionProvider = ConnectionProvider.newConnection();
+        var webClient = new WebClientConfig().inventoryWebClient(WebClient.builder(), connectionProvider, properties);
+        var smileClient = new InventoryClient(webClient, Duration.ofSeconds(5), true, Duration.ofMillis(100), 100, 8,
+                meterRegistry);
+
+        // Act
+        try {
+            var results = Mono.zip(
+                    smileClient.isProductAvailable("PROD001", 2),
+                    smileClient.isProductAvailable("OUT-OF-STOCK", 1)
+            ).block();
+
+            // Assert
+            assertTrue(results.getT1());
+            assertFalse(results.getT2());
+            assertEquals(List.of(SMILE), List.copyOf(contentTypes));
+        } finally {
+            smileClient.shutdown();
+        }
+    }
+
+    private ObjectMapper mapper(boolean smile) {
+        return smile ? smileMapper : jsonMapper;
+    }
+}
@@ -0,0 +1,110 @@
+package com.orch.order_service.order_service.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Tests for the downstream WebClient settings: timeouts against a stub server that
+ * never answers, and the service URLs bound from the environment
+ */
+@DisplayName("WebClient Config Tests")
+class WebClientConfigTest {
+
+    private DisposableServer silentServer;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        // Accepts the request and never sends a response
+        silentServer = HttpServer.create()
+                .port(0)
+                .handle((request, response) -> Mono.never())
+                .bindNow();
+        connectionProvider = ConnectionProvider.newConnection();
+    }
+
+    @AfterEach
+    @SuppressWarnings("unused")
+    void tearDown() {
+        connectionProvider.dispose();
+        silentServer.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should fail a request with a read timeout when the server does not answer")
+    void testReadTimeout() {
+        // Arrange
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "clients.inventory.base-url", "http://localhost:" + silentServer.port(),
+                "clients.inventory.read-timeout", "200ms",
+                "clients.inventory.response-timeout", "30s")))
+                .bindOrCreate("clients", DownstreamClientProperties.class);
+        var webClient = new WebClientConfig().inventoryWebClient(WebClient.builder(), connectionProvider, properties);
+
+        // Act
+        var start = System.nanoTime();
+        var exception = assertThrows(WebClientRequestException.class, () -> webClient.get()
+                .uri("/api/inventory/PROD001")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(Duration.ofSeconds(10)));
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertInstanceOf(ReadTimeoutException.class, exception.getCause());
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(5)) < 0, "timed out after " + elapsed);
+    }
+
+    @Test
+    @DisplayName("Should take the service URLs from INVENTORY_SERVICE_URL and CUSTOMER_SERVICE_URL")
+    void testServiceUrlsFromEnvironment() {
+        // Arrange
+        var runner = new ApplicationContextRunner()
+                .withInitializer(new ConfigDataApplicationContextInitializer())
+                .withUserConfiguration(PropertiesConfig.class);
+
+        // Act & Assert
+        runner.run(context -> {
+            var properties = context.getBean(DownstreamClientProperties.class);
+            assertEquals("http://localhost:8082", properties.inventory().baseUrl());
+            assertEquals("http://localhost:8083", properties.customer().baseUrl());
+        });
+        runner.withPropertyValues(
+                        "INVENTORY_SERVICE_URL=http://inventory-service:9082",
+                        "CUSTOMER_SERVICE_URL=http://customer-service:9083")
+                .run(context -> {
+                    var properties = context.getBean(DownstreamClientProperties.class);
+                    assertEquals("http://inventory-service:9082", properties.inventory().baseUrl());
+                    assertEquals("http://customer-service:9083", properties.customer().baseUrl());
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(DownstreamClientProperties.class)
+    static class PropertiesConfig {
+    }
+}
@@ -0,0 +1,97 @@
+package com.orch.order_service.order_service.controller;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.orch.order_service.order_service.controller.OrderController.CreateOrderRequest;
+import com.orch.order_service.order_service.exception.OrderValidationException;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.service.OrderValidator;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the POST /api/orders contract with asynchronous processing (the default):
+ * the order is accepted PENDING with 202 and validated afterwards
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@DisplayName("Order Controller Tests")
+class OrderControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private OrderValidator orderValidator;
+
+    @Test
+    @DisplayName("Should accept an order with 202 and complete it once validated")
+    void testCreateIsAccepted() {
+        // Arrange
+        when(orderValidator.validate("CUST-ACCEPT", "PROD001", 2)).thenReturn(Mono.empty());
+
+        // Act
+        var order = webTestClient.post().uri("/api/orders")
+                .bodyValue(new CreateOrderRequest("CUST-ACCEPT", new BigDecimal("25.00"), "PROD001", 2))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.ACCEPTED)
+                .expectBody(Order.class)
+                .returnResult().getResponseBody();
+
+        // Assert
+        assertEquals(OrderStatus.PENDING, order.status());
+        assertEquals("CUST-ACCEPT", order.customerId());
+        awaitStatus(order.id(), OrderStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should accept an order for an unknown customer and cancel it, not answer 422")
+    void testInvalidOrderIsCancelledAfterAcceptance() {
+        // Arrange
+        when(orderValidator.validate("CUST-UNKNOWN", null, null))
+                .thenReturn(Mono.error(new OrderValidationException("Customer not found: CUST-UNKNOWN")));
+
+        // Act
+        var order = webTestClient.post().uri("/api/orders")
+                .bodyValue(new CreateOrderRequest("CUST-UNKNOWN", new BigDecimal("5.00"), null, null))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.ACCEPTED)
+                .expectBody(Order.class)
+                .returnResult().getResponseBody();
+
+        // Assert
+        awaitStatus(order.id(), OrderStatus.CANCELLED);
+    }
+
+    private void awaitStatus(Long orderId, OrderStatus status) {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            var order = webTestClient.get().uri("/api/orders/{id}", orderId)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(Order.class)
+                    .returnResult().getResponseBody();
+            if (order.status() == status) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                fail("Order " + orderId + " did not reach " + status);
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
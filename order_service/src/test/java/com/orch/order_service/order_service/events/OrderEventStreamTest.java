@@ -0,0 +1,242 @@
+package com.orch.order_service.order_service.events;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import com.orch.order_service.order_service.events.OrderEventStream.Filter;
+import com.orch.order_service.order_service.events.OrderEventStream.OverflowPolicy;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.service.OrderService;
+import com.orch.order_service.order_service.store.OrderStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit tests for the order event stream
+ * Slow-subscriber tests dispatch on the writing thread so buffers fill deterministically.
+ */
+@DisplayName("Order Event Stream Tests")
+class OrderEventStreamTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderStore store = new OrderStore();
+    private final OrderService orderService = new OrderService(store);
+
+    @Test
+    @DisplayName("Should push matching creates and status changes as they happen")
+    void testLiveEventsAreFiltered() {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 16, OverflowPolicy.DISCONNECT, meterRegistry);
+        var events = stream.subscribe(new Filter(OrderStatus.PROCESSING, "CUST001"), null)
+                .take(2)
+                .collectList()
+                .toFuture();
+
+        // Act
+        var order = orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        var other = orderService.createOrder("CUST002", new BigDecimal("20.00"));
+        orderService.updateOrderStatus(other.id(), OrderStatus.PROCESSING);
+        orderService.updateOrderStatus(order.id(), OrderStatus.PROCESSING);
+        orderService.updateOrderStatus(order.id(), OrderStatus.COMPLETED);
+        orderService.updateOrderStatus(order.id(), OrderStatus.PROCESSING);
+
+        // Assert
+        var received = events.join();
+        assertEquals(List.of(4L, 6L), received.stream().map(OrderEvent::id).toList());
+        assertEquals(OrderEvent.Type.STATUS_CHANGED, received.get(0).type());
+        assertEquals(OrderStatus.PENDING, received.get(0).previousStatus());
+        assertEquals(OrderStatus.COMPLETED, received.get(1).previousStatus());
+    }
+
+    @Test
+    @DisplayName("Should replay events after the last seen id, then continue live")
+    void testResumeFromLastEventId() {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 16, OverflowPolicy.DISCONNECT, meterRegistry);
+        var order = orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        orderService.updateOrderStatus(order.id(), OrderStatus.PROCESSING);
+        orderService.updateOrderStatus(order.id(), OrderStatus.COMPLETED);
+
+        // Act
+        var events = stream.subscribe(Filter.ALL, 1L).take(3).collectList().toFuture();
+        orderService.createOrder("CUST002", new BigDecimal("20.00"));
+
+        // Assert
+        var received = events.join();
+        assertEquals(List.of(2L, 3L, 4L), received.stream().map(OrderEvent::id).toList());
+        assertEquals(OrderEvent.Type.CREATED, received.get(2).type());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a slow subscriber once its buffer drains")
+    void testSlowSubscriberIsDisconnected() {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 2, OverflowPolicy.DISCONNECT, meterRegistry,
+                Schedulers.immediate());
+        var subscriber = new ManualSubscriber();
+        stream.subscribe(Filter.ALL, null).subscribe(subscriber);
+
+        // Act
+        for (var i = 0; i < 5; i++) {
+            orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        }
+        subscriber.request(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), subscriber.ids());
+        assertTrue(subscriber.completed);
+        assertEquals(1, meterRegistry.get("orders.events.disconnected").counter().count());
+        assertEquals(0, meterRegistry.get("orders.events.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop events a slow subscriber has no room for and stay connected")
+    void testSlowSubscriberDropsEvents() {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 2, OverflowPolicy.DROP, meterRegistry,
+                Schedulers.immediate());
+        var subscriber = new ManualSubscriber();
+        stream.subscribe(Filter.ALL, null).subscribe(subscriber);
+
+        // Act
+        for (var i = 0; i < 5; i++) {
+            orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        }
+        subscriber.request(Long.MAX_VALUE);
+        orderService.createOrder("CUST001", new BigDecimal("10.00"));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 6L), subscriber.ids());
+        assertFalse(subscriber.completed);
+        assertEquals(3, meterRegistry.get("orders.events.dropped").counter().count());
+        subscriber.dispose();
+        assertEquals(0, meterRegistry.get("orders.events.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should replay everything buffered for a last id from before a restart")
+    void testResumeFromEarlierRun() {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 16, OverflowPolicy.DISCONNECT, meterRegistry);
+        var order = orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        orderService.updateOrderStatus(order.id(), OrderStatus.PROCESSING);
+
+        // Act
+        var received = stream.subscribe(Filter.ALL, 500L).take(2).collectList().block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(List.of(1L, 2L), received.stream().map(OrderEvent::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should not hold up order writes while a subscriber is stuck")
+    void testWritesDoNotWaitForSubscribers() throws Exception {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 16, OverflowPolicy.DROP, meterRegistry);
+        var release = new CountDownLatch(1);
+        var received = new CopyOnWriteArrayList<Long>();
+        var subscription = stream.subscribe(Filter.ALL, null).subscribe(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event.id());
+        });
+
+        // Act
+        try {
+            for (var i = 0; i < 100; i++) {
+                orderService.createOrder("CUST001", new BigDecimal("10.00"));
+            }
+            var writtenWhileStuck = stream.lastEventId();
+            release.countDown();
+
+            // Assert
+            assertEquals(100, writtenWhileStuck);
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (received.size() + meterRegistry.get("orders.events.dropped").counter().count() < 100
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1L, received.get(0));
+            assertEquals(100, received.size() + (long) meterRegistry.get("orders.events.dropped").counter().count());
+        } finally {
+            release.countDown();
+            subscription.dispose();
+            stream.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not emit events for restored orders")
+    void testRestoreIsNotAnEvent() {
+        // Arrange
+        var stream = new OrderEventStream(store, 100, 16, OverflowPolicy.DISCONNECT, meterRegistry);
+
+        // Act
+        store.restore(new Order(7L, "CUST001", BigDecimal.ONE, OrderStatus.PENDING, LocalDateTime.now()));
+
+        // Assert
+        assertEquals(0, stream.lastEventId());
+        assertTrue(stream.subscribe(Filter.ALL, 0L)
+                .take(Duration.ofMillis(50))
+                .collectList()
+                .block()
+                .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a replay or buffer size below 1 instead of failing order writes")
+    void testNonPositiveSizesAreRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderEventStream(store, 0, 16, OverflowPolicy.DISCONNECT, meterRegistry));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderEventStream(store, 100, 0, OverflowPolicy.DISCONNECT, meterRegistry));
+        var order = orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        assertEquals(OrderStatus.PENDING, orderService.findById(order.id()).orElseThrow().status());
+    }
+
+    /**
+     * Subscriber that requests nothing until told to
+     */
+    private static final class ManualSubscriber extends BaseSubscriber<OrderEvent> {
+        private final List<OrderEvent> received = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(OrderEvent event) {
+            received.add(event);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed = true;
+        }
+
+        List<Long> ids() {
+            return received.stream().map(OrderEvent::id).toList();
+        }
+    }
+}
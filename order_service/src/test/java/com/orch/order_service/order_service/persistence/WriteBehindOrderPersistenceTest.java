@@ -0,0 +1,144 @@
+package com.orch.order_service.order_service.persistence;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orch.order_service.order_service.entity.OrderEntity;
+import com.orch.order_service.order_service.exception.ServiceSaturatedException;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.repository.OrderRepository;
+import com.orch.order_service.order_service.service.OrderService;
+import com.orch.order_service.order_service.store.OrderStore;
+
+/**
+ * Tests for write-behind order persistence
+ */
+@SpringBootTest(properties = {
+        "orders.persistence.write-behind.enabled=true",
+        "orders.persistence.write-behind.flush-interval=50ms"
+})
+@DisplayName("Write-Behind Order Persistence Tests")
+class WriteBehindOrderPersistenceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private WriteBehindOrderPersistence persistence;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should persist the latest version of each written order")
+    void testOrdersArePersisted() throws InterruptedException {
+        // Arrange
+        var order1 = orderService.createOrder("CUST001", new BigDecimal("100.00"));
+        var order2 = orderService.createOrder("CUST002", new BigDecimal("200.00"));
+        orderService.updateOrderStatus(order1.id(), OrderStatus.PROCESSING);
+        orderService.updateOrderStatus(order1.id(), OrderStatus.COMPLETED);
+
+        // Act
+        assertTrue(persistence.flush());
+        // The background flusher may still hold a batch it drained before us
+        for (var i = 0; i < 100 && persistence.pendingWrites() > 0; i++) {
+            Thread.sleep(50);
+        }
+
+        // Assert
+        var stored1 = orderRepository.findById(order1.id()).orElseThrow();
+        var stored2 = orderRepository.findById(order2.id()).orElseThrow();
+        assertEquals(OrderStatus.COMPLETED, stored1.getStatus());
+        assertEquals(0, new BigDecimal("200.00").compareTo(stored2.getTotalAmount()));
+        assertEquals(OrderStatus.PENDING, stored2.getStatus());
+        assertEquals(0, persistence.pendingWrites());
+    }
+
+    @Test
+    @DisplayName("Should reject writes once the queue is full")
+    void testBackpressureWhenQueueIsFull() {
+        // Arrange - flusher is never started so queued writes stay queued
+        var store = new OrderStore();
+        var queue = new WriteBehindOrderPersistence(store, mock(OrderRepository.class), mock(TransactionTemplate.class),
+                2, 500, Duration.ofMillis(50), Duration.ZERO, true, 1000, Duration.ofDays(365));
+        var service = new OrderService(store, queue);
+        service.createOrder("CUST001", new BigDecimal("1.00"));
+        service.createOrder("CUST002", new BigDecimal("1.00"));
+
+        // Act & Assert
+        assertThrows(ServiceSaturatedException.class,
+                () -> service.createOrder("CUST003", new BigDecimal("1.00")));
+        assertEquals(2, store.size());
+        assertEquals(2, queue.pendingWrites());
+    }
+
+    @Test
+    @DisplayName("Should restore only the newest orders within the age limit, numbering new orders after all of them")
+    void testRestoreIsBounded() throws InterruptedException {
+        // Arrange - ids far above the other tests' orders; the highest is too old to restore
+        var now = LocalDateTime.now();
+        var entities = LongStream.rangeClosed(1_000_001, 1_000_005)
+                .mapToObj(id -> new OrderEntity(id, "CUST-RESTORE", BigDecimal.ONE, OrderStatus.PENDING,
+                        now.minusHours(1_000_006 - id), true))
+                .toList();
+        orderRepository.saveAll(entities);
+        orderRepository.save(new OrderEntity(1_000_006L, "CUST-RESTORE", BigDecimal.ONE, OrderStatus.PENDING,
+                now.minusDays(3), true));
+        var store = new OrderStore();
+        var restoring = new WriteBehindOrderPersistence(store, orderRepository, transactionTemplate,
+                100, 500, Duration.ofMillis(50), Duration.ZERO, true, 3, Duration.ofDays(1));
+
+        // Act
+        try {
+            restoring.start();
+        } finally {
+            restoring.stop();
+            orderRepository.deleteAllById(LongStream.rangeClosed(1_000_001, 1_000_006).boxed().toList());
+        }
+
+        // Assert
+        assertEquals(List.of(1_000_003L, 1_000_004L, 1_000_005L),
+                store.findByCustomer("CUST-RESTORE").stream().map(Order::id).sorted().toList());
+        assertEquals(1_000_007L, store.nextId());
+    }
+
+    @Test
+    @DisplayName("Should restore nothing but still skip persisted ids when max-orders is 0")
+    void testRestoreOfNoOrders() throws InterruptedException {
+        // Arrange
+        orderRepository.save(new OrderEntity(2_000_001L, "CUST-NO-RESTORE", BigDecimal.ONE, OrderStatus.PENDING,
+                LocalDateTime.now(), true));
+        var store = new OrderStore();
+        var restoring = new WriteBehindOrderPersistence(store, orderRepository, transactionTemplate,
+                100, 500, Duration.ofMillis(50), Duration.ZERO, true, 0, Duration.ofDays(1));
+
+        // Act
+        try {
+            restoring.start();
+        } finally {
+            restoring.stop();
+            orderRepository.deleteById(2_000_001L);
+        }
+
+        // Assert
+        assertEquals(0, store.size());
+        assertEquals(2_000_002L, store.nextId());
+    }
+}
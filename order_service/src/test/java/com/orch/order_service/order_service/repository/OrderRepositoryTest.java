@@ -0,0 +1,108 @@
+package com.orch.order_service.order_service.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.orch.order_service.order_service.entity.OrderEntity;
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.repository.OrderRepository.StatusTotals;
+
+/**
+ * Tests for the order repository's projection and aggregate queries
+ */
+@DataJpaTest
+@DisplayName("Order Repository Tests")
+class OrderRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        orderRepository.saveAll(List.of(
+                entity(1L, "CUST001", "10.00", OrderStatus.COMPLETED, START),
+                entity(2L, "CUST001", "30.00", OrderStatus.COMPLETED, START.plusHours(1)),
+                entity(3L, "CUST001", "5.00", OrderStatus.PENDING, START.plusHours(2)),
+                entity(4L, "CUST002", "100.00", OrderStatus.COMPLETED, START.plusHours(3))));
+        orderRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Should project orders straight into Order records")
+    void testProjections() {
+        // Act
+        var byCustomer = orderRepository.findByCustomerId("CUST001");
+        var completed = orderRepository.findByCustomerIdAndStatus("CUST001", OrderStatus.COMPLETED);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), byCustomer.stream().map(Order::id).sorted().toList());
+        assertEquals(List.of(1L, 2L), completed.stream().map(Order::id).sorted().toList());
+        assertEquals(0, new BigDecimal("30.00").compareTo(completed.stream().filter(order -> order.id() == 2L)
+                .findFirst().orElseThrow().totalAmount()));
+        assertEquals(List.of(3L, 4L), orderRepository
+                .findTop1000ByIdGreaterThanAndCreatedAtGreaterThanEqualOrderByIdAsc(1L, START.plusHours(2)).stream()
+                .map(Order::id).toList());
+        assertEquals(List.of(2L), orderRepository.findIdsCreatedSinceNewestFirst(START.plusHours(1),
+                PageRequest.of(2, 1)));
+        assertEquals(4L, orderRepository.findMaxId());
+    }
+
+    @Test
+    @DisplayName("Should count, sum and average per status in the database")
+    void testAggregates() {
+        // Act
+        var totals = orderRepository.summarizeByStatus();
+
+        // Assert
+        var completed = find(totals, OrderStatus.COMPLETED);
+        assertEquals(3L, completed.orderCount());
+        assertEquals(0, new BigDecimal("140.00").compareTo(completed.totalAmount()));
+        assertEquals(2, totals.size());
+        assertEquals(140.0 / 3, completed.averageAmount(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should create the lookup indexes")
+    void testIndexesExist() {
+        // Act
+        var indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'ORDERS'", String.class);
+
+        // Assert
+        assertTrue(indexes.contains("IDX_ORDERS_CUSTOMER_STATUS_CREATED"), indexes.toString());
+        assertTrue(indexes.contains("IDX_ORDERS_STATUS"), indexes.toString());
+    }
+
+    private static StatusTotals find(List<StatusTotals> totals, OrderStatus status) {
+        return totals.stream().filter(t -> t.status() == status).findFirst().orElseThrow();
+    }
+
+    private static OrderEntity entity(Long id, String customerId, String amount, OrderStatus status,
+                                      LocalDateTime createdAt) {
+        var entity = new OrderEntity();
+        entity.setId(id);
+        entity.setCustomerId(customerId);
+        entity.setTotalAmount(new BigDecimal(amount));
+        entity.setStatus(status);
+        entity.setCreatedAt(createdAt);
+        return entity;
+    }
+}
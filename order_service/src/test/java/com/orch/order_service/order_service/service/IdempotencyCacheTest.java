@@ -0,0 +1,102 @@
+package com.orch.order_service.order_service.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.orch.order_service.order_service.exception.IdempotencyKeyReusedException;
+import com.orch.order_service.order_service.exception.ProcessingQueueFullException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests for the idempotency cache
+ */
+@DisplayName("Idempotency Cache Tests")
+class IdempotencyCacheTest {
+
+    private final IdempotencyCache idempotencyCache =
+            new IdempotencyCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should replay the original response for a repeated key")
+    void testRepeatIsReplayed() {
+        // Act
+        var first = idempotencyCache.execute("key-1", "request", this::create).block();
+        var second = idempotencyCache.execute("key-1", "request", this::create).block();
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals("order-1", second.getBody());
+        assertEquals(first.getStatusCode(), second.getStatusCode());
+        assertNull(first.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER));
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should make a concurrent duplicate wait for the in-flight execution")
+    void testConcurrentDuplicateWaits() {
+        // Arrange
+        var result = Sinks.<ResponseEntity<String>>one();
+        Mono<ResponseEntity<String>> slowCall = Mono.defer(() -> {
+            executions.incrementAndGet();
+            return result.asMono();
+        });
+        var first = idempotencyCache.execute("key-2", "request", () -> slowCall).toFuture();
+        var second = idempotencyCache.execute("key-2", "request", () -> slowCall).toFuture();
+
+        // Act
+        assertFalse(second.isDone());
+        result.tryEmitValue(ResponseEntity.accepted().body("order-1"));
+
+        // Assert
+        assertEquals("order-1", first.join().getBody());
+        assertEquals("order-1", second.join().getBody());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void testKeyReusedForDifferentRequest() {
+        // Arrange
+        idempotencyCache.execute("key-3", "request", this::create).block();
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyCache.execute("key-3", "other request", this::create).block());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should run again after a failed execution")
+    void testFailureIsNotCached() {
+        // Arrange
+        Mono<ResponseEntity<String>> failing = Mono.defer(() -> {
+            executions.incrementAndGet();
+            return Mono.error(new ProcessingQueueFullException("Order processing queue is full"));
+        });
+        assertThrows(ProcessingQueueFullException.class,
+                () -> idempotencyCache.execute("key-4", "request", () -> failing).block());
+
+        // Act
+        var retry = idempotencyCache.execute("key-4", "request", this::create).block();
+
+        // Assert
+        assertEquals(2, executions.get());
+        assertEquals("order-2", retry.getBody());
+    }
+
+    private Mono<ResponseEntity<String>> create() {
+        return Mono.fromSupplier(() -> ResponseEntity.accepted().body("order-" + executions.incrementAndGet()));
+    }
+}
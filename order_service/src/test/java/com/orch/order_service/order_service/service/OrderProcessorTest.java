@@ -0,0 +1,180 @@
+package com.orch.order_service.order_service.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.orch.order_service.order_service.exception.DownstreamUnavailableException;
+import com.orch.order_service.order_service.exception.OrderValidationException;
+import com.orch.order_service.order_service.exception.ProcessingQueueFullException;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests for asynchronous order processing
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Processor Tests")
+class OrderProcessorTest {
+
+    @Mock
+    private OrderValidator orderValidator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderService orderService = new OrderService(new OrderStore());
+    private OrderProcessor orderProcessor;
+
+    @AfterEach
+    @SuppressWarnings("unused")
+    void tearDown() {
+        orderProcessor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should complete valid orders and cancel rejected ones")
+    void testOrdersAreCompletedOrCancelled() {
+        // Arrange
+        orderProcessor = processor(10, 4);
+        when(orderValidator.validate("CUST001", "PROD001", 1)).thenReturn(Mono.empty());
+        when(orderValidator.validate("CUST404", null, null))
+                .thenReturn(Mono.error(new OrderValidationException("Customer not found: CUST404")));
+
+        // Act
+        var valid = orderProcessor.submit("CUST001", new BigDecimal("10.00"), "PROD001", 1);
+        var invalid = orderProcessor.submit("CUST404", new BigDecimal("10.00"), null, null);
+
+        // Assert
+        assertEquals(OrderStatus.PENDING, valid.status());
+        awaitStatus(valid.id(), OrderStatus.COMPLETED);
+        awaitStatus(invalid.id(), OrderStatus.CANCELLED);
+        assertEquals(1, meterRegistry.get("orders.processing.outcomes").tag("outcome", "COMPLETED").counter().count());
+        assertEquals(1, meterRegistry.get("orders.processing.outcomes").tag("outcome", "CANCELLED").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject new orders while the queue is full, without creating them")
+    void testFullQueueRejects() {
+        // Arrange
+        orderProcessor = processor(2, 1);
+        var release = Sinks.<Void>empty();
+        when(orderValidator.validate("CUST001", null, null)).thenReturn(release.asMono());
+        var first = orderProcessor.submit("CUST001", BigDecimal.ONE, null, null);
+        var second = orderProcessor.submit("CUST001", BigDecimal.ONE, null, null);
+
+        // Act & Assert
+        assertEquals(OrderStatus.PROCESSING, orderService.findById(first.id()).orElseThrow().status());
+        assertEquals(1.0, meterRegistry.get("orders.processing.queued").gauge().value());
+        assertThrows(ProcessingQueueFullException.class,
+                () -> orderProcessor.submit("CUST001", BigDecimal.ONE, null, null));
+        assertEquals(2, orderService.getAllOrders().size());
+        assertEquals(1, meterRegistry.get("orders.processing.rejected").counter().count());
+
+        release.tryEmitEmpty();
+        awaitStatus(first.id(), OrderStatus.COMPLETED);
+        awaitStatus(second.id(), OrderStatus.COMPLETED);
+        orderProcessor.submit("CUST001", BigDecimal.ONE, null, null);
+    }
+
+    @Test
+    @DisplayName("Should leave alone an order whose status was changed while it was queued")
+    void testChangedOrderIsSkipped() {
+        // Arrange
+        orderProcessor = processor(10, 1);
+        var release = Sinks.<Void>empty();
+        when(orderValidator.validate("CUST001", null, null)).thenReturn(release.asMono());
+        var first = orderProcessor.submit("CUST001", BigDecimal.ONE, null, null);
+        var second = orderProcessor.submit("CUST001", BigDecimal.ONE, null, null);
+
+        // Act
+        orderService.updateOrderStatus(second.id(), OrderStatus.CANCELLED);
+        release.tryEmitEmpty();
+
+        // Assert
+        awaitStatus(first.id(), OrderStatus.COMPLETED);
+        awaitPending(0);
+        assertEquals(OrderStatus.CANCELLED, orderService.findById(second.id()).orElseThrow().status());
+        assertEquals(1, meterRegistry.get("orders.processing.outcomes").tag("outcome", "SKIPPED").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should retry validation while a downstream service is unavailable")
+    void testDownstreamFailuresAreRetried() {
+        // Arrange
+        orderProcessor = processor(10, 4);
+        var attempts = new AtomicInteger();
+        when(orderValidator.validate("CUST001", null, null)).thenReturn(Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(new DownstreamUnavailableException("customer-service", new TimeoutException()))
+                : Mono.empty()));
+
+        // Act
+        var order = orderProcessor.submit("CUST001", BigDecimal.ONE, null, null);
+
+        // Assert
+        awaitStatus(order.id(), OrderStatus.COMPLETED);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should queue again the orders left PENDING by an earlier run")
+    void testPendingOrdersAreRequeued() {
+        // Arrange - as restored from the database, with nothing queued for them
+        var restored = orderService.createOrder("CUST001", BigDecimal.ONE);
+        var unknown = orderService.createOrder("CUST404", BigDecimal.ONE);
+        var done = orderService.createOrder("CUST001", BigDecimal.ONE);
+        orderService.updateOrderStatus(done.id(), OrderStatus.COMPLETED);
+        orderProcessor = processor(1, 1);
+        when(orderValidator.validate("CUST001", null, null)).thenReturn(Mono.empty());
+        when(orderValidator.validate("CUST404", null, null))
+                .thenReturn(Mono.error(new OrderValidationException("Customer not found: CUST404")));
+
+        // Act
+        orderProcessor.requeuePending();
+
+        // Assert
+        awaitStatus(restored.id(), OrderStatus.COMPLETED);
+        awaitStatus(unknown.id(), OrderStatus.CANCELLED);
+        awaitPending(0);
+        assertEquals(1, meterRegistry.get("orders.processing.outcomes").tag("outcome", "COMPLETED").counter().count());
+    }
+
+    private OrderProcessor processor(int queueCapacity, int concurrency) {
+        return new OrderProcessor(orderService, orderValidator, true, queueCapacity, concurrency, 3,
+                Duration.ofMillis(1), meterRegistry);
+    }
+
+    private void awaitStatus(Long orderId, OrderStatus status) {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (orderService.findById(orderId).orElseThrow().status() != status) {
+            if (System.nanoTime() > deadline) {
+                fail("Order " + orderId + " did not reach " + status);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitPending(int pending) {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (orderProcessor.pending() != pending) {
+            if (System.nanoTime() > deadline) {
+                fail("Processor still has " + orderProcessor.pending() + " orders pending");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
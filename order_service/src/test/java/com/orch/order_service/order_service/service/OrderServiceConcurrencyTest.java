@@ -0,0 +1,125 @@
+package com.orch.order_service.order_service.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderStore;
+
+/**
+ * Multi-threaded stress tests for OrderService
+ * Verifies that concurrent creates and status updates never lose writes or reuse ids
+ * as the thread count grows from 1 to the number of cores
+ */
+@DisplayName("Order Service Concurrency Tests")
+class OrderServiceConcurrencyTest {
+
+    private static final int ORDERS_PER_THREAD = 20_000;
+
+    @Test
+    @DisplayName("Should allocate unique ids and keep every order under concurrent creates")
+    void testConcurrentCreateAndUpdate() throws Exception {
+        var cores = Runtime.getRuntime().availableProcessors();
+        for (var threads = 1; threads <= cores; threads *= 2) {
+            runRound(threads);
+        }
+        if (Integer.bitCount(cores) != 1) {
+            runRound(cores);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serialize racing status updates on the same order")
+    void testRacingStatusUpdates() throws Exception {
+        var orderService = new OrderService(new OrderStore());
+        var order = orderService.createOrder("CUST001", new BigDecimal("10.00"));
+        var threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        var statuses = OrderStatus.values();
+
+        runConcurrently(threads, thread -> {
+            for (var i = 0; i < ORDERS_PER_THREAD; i++) {
+                var updated = orderService.updateOrderStatus(order.id(), statuses[(thread + i) % statuses.length]);
+                assertTrue(updated.isPresent());
+                assertEquals(order.id(), updated.get().id());
+                assertEquals(order.totalAmount(), updated.get().totalAmount());
+            }
+        });
+
+        assertEquals(1, orderService.getAllOrders().size());
+        var finalStatus = orderService.findById(order.id()).orElseThrow().status();
+        var statistics = orderService.getStatistics();
+        for (var status : statuses) {
+            assertEquals(status == finalStatus ? 1L : 0L, statistics.ordersByStatus().get(status));
+            assertEquals(status == finalStatus ? 1 : 0, orderService.getOrdersByStatus(status).size());
+        }
+        var expectedRevenue = finalStatus == OrderStatus.COMPLETED ? order.totalAmount() : new BigDecimal("0.00");
+        assertEquals(expectedRevenue, orderService.calculateTotalRevenue());
+    }
+
+    private void runRound(int threads) throws Exception {
+        var orderService = new OrderService(new OrderStore());
+        var amount = new BigDecimal("1.00");
+
+        runConcurrently(threads, thread -> {
+            for (var i = 0; i < ORDERS_PER_THREAD; i++) {
+                var order = orderService.createOrder("CUST" + thread, amount);
+                orderService.updateOrderStatus(order.id(), OrderStatus.COMPLETED);
+            }
+        });
+
+        var expected = threads * ORDERS_PER_THREAD;
+        var orders = orderService.getAllOrders();
+        var ids = new HashSet<Long>();
+        orders.stream().map(Order::id).forEach(ids::add);
+
+        assertEquals(expected, orders.size());
+        assertEquals(expected, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id >= 1 && id <= expected));
+        assertEquals(expected, orderService.getOrdersByStatus(OrderStatus.COMPLETED).size());
+        assertEquals(new BigDecimal(expected + ".00"), orderService.calculateTotalRevenue());
+        var statistics = orderService.getStatistics();
+        assertEquals(expected, statistics.totalOrders());
+        assertEquals(expected, statistics.completedOrders());
+        assertEquals(0L, statistics.ordersByStatus().get(OrderStatus.PENDING));
+        assertEquals(ORDERS_PER_THREAD, orderService.getCustomerOrders("CUST0").size());
+    }
+
+    private void runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            var startGate = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (var t = 0; t < threads; t++) {
+                var thread = t;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -1,6 +1,8 @@
 package com.orch.order_service.order_service.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -14,6 +16,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.orch.order_service.order_service.model.Order;
 import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.persistence.OrderPersistence;
+import com.orch.order_service.order_service.service.OrderService.PeriodRevenue;
+import com.orch.order_service.order_service.service.OrderService.PeriodStatistics;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.orch.order_service.order_service.store.OrderStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Unit tests for OrderService
@@ -23,12 +32,14 @@ import com.orch.order_service.order_service.model.OrderStatus;
 @DisplayName("Order Service Tests")
 class OrderServiceTest {
 
+    private OrderStore orderStore;
     private OrderService orderService;
 
     @BeforeEach
     @SuppressWarnings("unused")
     void setUp() {
-        orderService = new OrderService();
+        orderStore = new OrderStore();
+        orderService = new OrderService(orderStore);
     }
 
     @Test
@@ -120,6 +131,83 @@ class OrderServiceTest {
         assertEquals(new BigDecimal("300.00"), revenue);
     }
 
+    @Test
+    @DisplayName("Should adjust revenue when orders move in and out of COMPLETED")
+    void testRevenueFollowsStatusTransitions() {
+        // Arrange
+        var order1 = orderService.createOrder("CUST001", new BigDecimal("100.00"));
+        var order2 = orderService.createOrder("CUST002", new BigDecimal("200.00"));
+        orderService.updateOrderStatus(order1.id(), OrderStatus.COMPLETED);
+        orderService.updateOrderStatus(order2.id(), OrderStatus.COMPLETED);
+
+        // Act
+        orderService.updateOrderStatus(order2.id(), OrderStatus.REFUNDED);
+
+        // Assert
+        assertEquals(new BigDecimal("100.00"), orderService.calculateTotalRevenue());
+    }
+
+    @Test
+    @DisplayName("Should report statistics with per-status counts")
+    void testGetStatistics() {
+        // Arrange
+        var order1 = orderService.createOrder("CUST001", new BigDecimal("100.00"));
+        orderService.createOrder("CUST002", new BigDecimal("50.00"));
+        orderService.createOrder("CUST003", new BigDecimal("0.01"));
+        orderService.updateOrderStatus(order1.id(), OrderStatus.COMPLETED);
+
+        // Act
+        var statistics = orderService.getStatistics();
+
+        // Assert
+        assertEquals(3, statistics.totalOrders());
+        assertEquals(1, statistics.completedOrders());
+        assertEquals(new BigDecimal("50.00"), statistics.averageOrderValue());
+        assertEquals(2L, statistics.ordersByStatus().get(OrderStatus.PENDING));
+        assertEquals(1L, statistics.ordersByStatus().get(OrderStatus.COMPLETED));
+        assertEquals(0L, statistics.ordersByStatus().get(OrderStatus.REFUNDED));
+    }
+
+    @Test
+    @DisplayName("Should report revenue and statistics per time bucket for a range")
+    void testTimeBucketedRollups() {
+        // Arrange
+        var day = LocalDateTime.of(2025, 3, 1, 0, 0);
+        orderStore.restore(new Order(1L, "CUST001", new BigDecimal("10.00"), OrderStatus.COMPLETED, day.plusHours(9).plusMinutes(5)));
+        orderStore.restore(new Order(2L, "CUST002", new BigDecimal("20.00"), OrderStatus.PENDING, day.plusHours(9).plusMinutes(40)));
+        orderStore.restore(new Order(3L, "CUST003", new BigDecimal("30.00"), OrderStatus.COMPLETED, day.plusHours(11)));
+        orderStore.restore(new Order(4L, "CUST004", new BigDecimal("40.00"), OrderStatus.COMPLETED, day.plusDays(1)));
+        orderService.updateOrderStatus(2L, OrderStatus.COMPLETED);
+        orderService.updateOrderStatus(3L, OrderStatus.REFUNDED);
+
+        // Act
+        var revenue = orderService.calculateRevenue(day, day.plusDays(1), Granularity.HOUR);
+        var statistics = orderService.getStatistics(day.plusHours(9).plusMinutes(30), null, Granularity.DAY);
+
+        // Assert
+        assertEquals(new BigDecimal("30.00"), revenue.totalRevenue());
+        assertEquals(List.of(new PeriodRevenue(day.plusHours(9), new BigDecimal("30.00"))), revenue.buckets());
+        assertEquals(4, statistics.totalOrders());
+        assertEquals(3, statistics.completedOrders());
+        assertEquals(List.of(day, day.plusDays(1)), statistics.buckets().stream().map(PeriodStatistics::start).toList());
+        assertEquals(1L, statistics.buckets().get(0).ordersByStatus().get(OrderStatus.REFUNDED));
+        assertEquals(new BigDecimal("20.00"), statistics.buckets().get(0).averageOrderValue());
+        assertEquals(new BigDecimal("70.00"), orderService.calculateTotalRevenue());
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void testInvalidRange() {
+        // Arrange
+        var from = LocalDateTime.of(2025, 3, 2, 0, 0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.calculateRevenue(from, from.minusDays(1), Granularity.DAY));
+        assertThrows(IllegalArgumentException.class, () -> Granularity.parse("week"));
+        assertEquals(Granularity.MINUTE, Granularity.parse("minute"));
+    }
+
     @Test
     @DisplayName("Should throw exception for negative amount")
     void testCreateOrderWithNegativeAmount() {
@@ -134,4 +222,29 @@ class OrderServiceTest {
         // Assert
         assertEquals("Total amount cannot be negative", ex.getMessage());
     }
+
+    @Test
+    @DisplayName("Should time operations by outcome")
+    void testOperationsAreTimed() {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        var timedService = new OrderService(new OrderStore(), OrderPersistence.NONE, meterRegistry);
+
+        // Act
+        var order = timedService.createOrder("CUST001", new BigDecimal("10.00"));
+        timedService.findById(order.id());
+        timedService.findById(999L);
+        assertThrows(IllegalArgumentException.class,
+                () -> timedService.createOrder("CUST001", new BigDecimal("-1.00")));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("orders.operations")
+                .tags("operation", "create", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, meterRegistry.get("orders.operations")
+                .tags("operation", "find", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, meterRegistry.get("orders.operations")
+                .tags("operation", "find", "outcome", "NOT_FOUND").timer().count());
+        assertEquals(1, meterRegistry.get("orders.operations")
+                .tags("operation", "create", "outcome", "ERROR", "exception", "IllegalArgumentException").timer().count());
+    }
 }
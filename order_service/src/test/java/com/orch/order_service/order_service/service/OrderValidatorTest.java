@@ -0,0 +1,98 @@
+package com.orch.order_service.order_service.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.orch.order_service.order_service.client.CustomerClient;
+import com.orch.order_service.order_service.client.InventoryClient;
+import com.orch.order_service.order_service.exception.DownstreamUnavailableException;
+import com.orch.order_service.order_service.exception.OrderValidationException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for OrderValidator
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Validator Tests")
+class OrderValidatorTest {
+
+    @Mock
+    private CustomerClient customerClient;
+
+    @Mock
+    private InventoryClient inventoryClient;
+
+    private OrderValidator orderValidator;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        orderValidator = new OrderValidator(customerClient, inventoryClient);
+    }
+
+    @Test
+    @DisplayName("Should run customer and inventory checks concurrently")
+    void testChecksRunConcurrently() {
+        // Arrange
+        var delay = Duration.ofMillis(300);
+        when(customerClient.customerExists("CUST001")).thenReturn(Mono.just(true).delayElement(delay));
+        when(inventoryClient.isProductAvailable("PROD001", 2)).thenReturn(Mono.just(true).delayElement(delay));
+
+        // Act
+        var start = System.nanoTime();
+        assertDoesNotThrow(() -> orderValidator.validate("CUST001", "PROD001", 2).block());
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert - sequential calls would take at least twice the delay
+        assertTrue(elapsed.compareTo(delay.multipliedBy(2)) < 0, "validation took " + elapsed);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown customer")
+    void testUnknownCustomer() {
+        // Arrange
+        when(customerClient.customerExists("CUST404")).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        assertThrows(OrderValidationException.class,
+                () -> orderValidator.validate("CUST404", null, null).block());
+        verifyNoInteractions(inventoryClient);
+    }
+
+    @Test
+    @DisplayName("Should reject insufficient stock")
+    void testInsufficientStock() {
+        // Arrange
+        when(customerClient.customerExists("CUST001")).thenReturn(Mono.just(true));
+        when(inventoryClient.isProductAvailable("PROD001", 1)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        assertThrows(OrderValidationException.class,
+                () -> orderValidator.validate("CUST001", "PROD001", null).block());
+    }
+
+    @Test
+    @DisplayName("Should report downstream timeouts as unavailable")
+    void testDownstreamTimeout() {
+        // Arrange
+        when(customerClient.customerExists("CUST001")).thenReturn(Mono.error(new TimeoutException()));
+        when(inventoryClient.isProductAvailable("PROD001", 1)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        assertThrows(DownstreamUnavailableException.class,
+                () -> orderValidator.validate("CUST001", "PROD001", 1).block());
+    }
+}
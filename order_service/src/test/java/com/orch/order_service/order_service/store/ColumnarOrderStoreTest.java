@@ -0,0 +1,175 @@
+package com.orch.order_service.order_service.store;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+import com.orch.order_service.order_service.store.OrderAggregates.Granularity;
+import com.orch.order_service.order_service.store.OrderAggregates.Totals;
+
+/**
+ * Unit tests for the columnar order store
+ * Orders must come back exactly as stored, and column scans must give the same
+ * time-bucket totals as the rollups of the record store.
+ */
+@DisplayName("Columnar Order Store Tests")
+class ColumnarOrderStoreTest {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("Should return orders exactly as stored, including ones that do not fit the columns")
+    void testRoundTrip() {
+        // Arrange
+        var store = OrderStore.columnar();
+        var orders = List.of(
+                new Order(store.nextId(), "CUST001", new BigDecimal("49.99"), OrderStatus.PENDING, START),
+                new Order(store.nextId(), "CUST002", new BigDecimal("50"), OrderStatus.COMPLETED, START.plusDays(1)),
+                new Order(store.nextId(), "CUST001", new BigDecimal("1.2300"), OrderStatus.CANCELLED, START),
+                new Order(store.nextId(), "CUST004", new BigDecimal("5E+3"), OrderStatus.PENDING, START.minusYears(60)),
+                new Order(store.nextId(), "CUST003", BigDecimal.TEN, OrderStatus.PENDING, START.plusNanos(1)),
+                // Sub-cent amount and a time out of nanosecond range are kept whole
+                new Order(store.nextId(), "CUST003", new BigDecimal("0.005"), OrderStatus.PENDING, START),
+                new Order(store.nextId(), "CUST005", BigDecimal.ONE, OrderStatus.PENDING, START.plusYears(300)));
+
+        // Act
+        orders.forEach(store::insert);
+
+        // Assert
+        for (var order : orders) {
+            assertEquals(order, store.get(order.id()).orElseThrow());
+        }
+        assertEquals(new HashSet<>(orders), new HashSet<>(store.values()));
+        assertEquals(orders.size(), store.size());
+        assertNull(store.get(orders.size() + 1L).orElse(null));
+    }
+
+    @Test
+    @DisplayName("Should move an order in and out of the columns when an update changes whether it fits")
+    void testUpdateBetweenColumnsAndSideMap() {
+        // Arrange
+        var store = OrderStore.columnar();
+        var order = new Order(store.nextId(), "CUST001", new BigDecimal("10.00"), OrderStatus.PENDING, START);
+        store.insert(order);
+        var subCent = new Order(order.id(), "CUST001", new BigDecimal("10.001"), OrderStatus.PROCESSING, START);
+        var whole = new Order(order.id(), "CUST001", new BigDecimal("12.50"), OrderStatus.COMPLETED, START);
+
+        // Act & Assert
+        store.update(order.id(), existing -> subCent);
+        assertEquals(subCent, store.get(order.id()).orElseThrow());
+        store.update(order.id(), existing -> whole);
+        assertEquals(whole, store.get(order.id()).orElseThrow());
+        assertEquals(List.of(whole), List.copyOf(store.values()));
+        assertEquals(1, store.findByStatus(OrderStatus.COMPLETED).size());
+        assertEquals(new BigDecimal("12.50"), store.aggregates().revenue());
+    }
+
+    @Test
+    @DisplayName("Should scan the same bucket totals as the rollups of the record store")
+    void testScanMatchesRollups() {
+        // Arrange
+        var random = new Random(7);
+        var rows = new OrderStore();
+        var columns = OrderStore.columnar();
+        // About five days of orders, inside the week of minute buckets the rollups keep
+        for (var i = 0; i < 150_000; i++) {
+            var id = rows.nextId();
+            columns.nextId();
+            var amount = random.nextInt(50) == 0
+                    ? new BigDecimal("0.001").multiply(BigDecimal.valueOf(random.nextInt(100_000)))
+                    : BigDecimal.valueOf(random.nextInt(100_000), 2);
+            var order = new Order(id, "CUST" + random.nextInt(100), amount, OrderStatus.PENDING,
+                    START.plusSeconds(i * 3L));
+            rows.insert(order);
+            columns.insert(order);
+        }
+        for (var i = 0; i < 50_000; i++) {
+            var id = 1L + random.nextInt(150_000);
+            var status = STATUSES[random.nextInt(STATUSES.length)];
+            rows.update(id, existing -> withStatus(existing, status));
+            columns.update(id, existing -> withStatus(existing, status));
+        }
+
+        // Act & Assert
+        for (var granularity : Granularity.values()) {
+            assertEquals(summary(rows.rollup(granularity, null, null)), summary(columns.rollup(granularity, null, null)));
+            var from = START.plusHours(30).plusMinutes(17);
+            var to = START.plusDays(5).plusSeconds(1);
+            assertEquals(summary(rows.rollup(granularity, from, to)), summary(columns.rollup(granularity, from, to)));
+        }
+        assertEquals(0, rows.aggregates().revenue().compareTo(columns.aggregates().revenue()));
+    }
+
+    @Test
+    @DisplayName("Should never show a torn order to readers while it is updated concurrently")
+    void testConcurrentUpdates() throws Exception {
+        // Arrange
+        var store = OrderStore.columnar();
+        for (var i = 0; i < 1_000; i++) {
+            store.insert(new Order(store.nextId(), "CUST" + i, BigDecimal.valueOf(i, 2), OrderStatus.PENDING, START));
+        }
+        var threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        var executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        var futures = new ArrayList<Future<?>>();
+        try {
+            for (var thread = 0; thread < threads; thread++) {
+                var seed = thread;
+                futures.add(executor.submit(() -> {
+                    var random = new Random(seed);
+                    for (var i = 0; i < 50_000; i++) {
+                        var id = 1L + random.nextInt(1_000);
+                        if (random.nextBoolean()) {
+                            var status = STATUSES[random.nextInt(STATUSES.length)];
+                            store.update(id, existing -> withStatus(existing, status));
+                        } else {
+                            // Amount and customer are never changed, so they always match the id
+                            var order = store.get(id).orElseThrow();
+                            assertEquals(BigDecimal.valueOf(id - 1, 2), order.totalAmount());
+                            assertEquals("CUST" + (id - 1), order.customerId());
+                        }
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        var scanned = store.rollup(Granularity.DAY, null, null).firstEntry().getValue();
+        assertEquals(store.aggregates().countsByStatus(), scanned.countsByStatus());
+        assertEquals(store.aggregates().revenue(), scanned.revenue());
+    }
+
+    private static Order withStatus(Order order, OrderStatus status) {
+        return new Order(order.id(), order.customerId(), order.totalAmount(), status, order.createdAt());
+    }
+
+    private static Map<LocalDateTime, List<Object>> summary(Map<LocalDateTime, Totals> buckets) {
+        return buckets.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, bucket -> {
+            var totals = bucket.getValue();
+            // Compared by value: a sub-cent amount that has come and gone can leave a wider scale
+            return List.of(totals.totalOrders(), totals.countsByStatus(), totals.totalAmount().stripTrailingZeros(),
+                    totals.revenue().stripTrailingZeros());
+        }));
+    }
+}
@@ -0,0 +1,88 @@
+package com.orch.order_service.order_service.store;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.orch.order_service.order_service.model.Order;
+import com.orch.order_service.order_service.model.OrderStatus;
+
+/**
+ * Unit tests for the primitive long collections behind the order indexes
+ */
+@DisplayName("Order Index Tests")
+class OrderIndexesTest {
+
+    @Test
+    @DisplayName("Should match a HashSet across random adds and removes while growing and shrinking")
+    void testMatchesHashSet() {
+        // Arrange
+        var random = new Random(42);
+        var set = new LongHashSet();
+        var expected = new HashSet<Long>();
+
+        // Act & Assert
+        for (var round = 0; round < 200_000; round++) {
+            // Grow for the first half, then drain
+            var value = 1 + random.nextInt(5_000);
+            var add = round < 100_000 ? random.nextInt(4) != 0 : random.nextInt(4) == 0;
+            if (add) {
+                assertEquals(expected.add((long) value), set.add(value));
+            } else {
+                assertEquals(expected.remove((long) value), set.remove(value));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        for (var value = 1L; value <= 5_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+        var values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), values);
+    }
+
+    @Test
+    @DisplayName("Should keep every appended value visible in order")
+    void testPackedLongList() {
+        // Arrange
+        var list = new PackedLongList();
+
+        // Act
+        for (var value = 1L; value <= 1_000; value++) {
+            list.add(value);
+        }
+
+        // Assert
+        assertEquals(1_000, list.size());
+        var values = list.toArray();
+        assertEquals(1L, values[0]);
+        assertEquals(1_000L, values[999]);
+    }
+
+    @Test
+    @DisplayName("Should move orders between status indexes on update")
+    void testStoreIndexesFollowUpdates() {
+        // Arrange
+        var store = new OrderStore();
+        var order = new Order(store.nextId(), "CUST001", BigDecimal.ONE, OrderStatus.PENDING, LocalDateTime.now());
+        store.insert(order);
+
+        // Act
+        store.update(order.id(), existing -> new Order(existing.id(), existing.customerId(), existing.totalAmount(),
+                OrderStatus.COMPLETED, existing.createdAt()));
+
+        // Assert
+        assertTrue(store.findByStatus(OrderStatus.PENDING).isEmpty());
+        assertEquals(1, store.findByStatus(OrderStatus.COMPLETED).size());
+        assertEquals(1, store.findByCustomer("CUST001").size());
+        assertTrue(store.findByCustomer("CUST002").isEmpty());
+    }
+}